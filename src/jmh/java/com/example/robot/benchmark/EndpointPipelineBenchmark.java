@@ -0,0 +1,91 @@
+package com.example.robot.benchmark;
+
+import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.application.port.in.ScenarioResult;
+import com.example.robot.application.port.in.ScenarioRun;
+import com.example.robot.application.service.RobotScenarioService;
+import com.example.robot.domain.IgnorePolicy;
+import com.example.robot.infrastructure.codec.BinaryScenarioCodec;
+import com.example.robot.infrastructure.dto.RobotProgramRequest;
+import com.example.robot.infrastructure.dto.ScenarioRequest;
+import com.example.robot.infrastructure.mapper.ScenarioWebMapper;
+import com.example.robot.infrastructure.parserRaw.RawScenarioParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What the REST endpoints do for one request, minus the servlet container:
+ * body decoding, mapping, execution and response encoding.
+ *
+ * <p>{@code execute} mirrors {@code POST /api/v1/robots/execute} (JSON in, JSON out) and
+ * {@code executeRawPlain} mirrors {@code POST /api/v1/robots/execute-raw-plain};
+ * {@code executeBinary} mirrors {@code POST /api/v1/robots/execute} with the binary codec.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EndpointPipelineBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int robots;
+
+    @Param({"16"})
+    public int instructionLength;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private RobotScenarioService useCase;
+    private byte[] jsonBody;
+    private String rawBody;
+    private byte[] binaryBody;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        useCase = new RobotScenarioService(new IgnorePolicy());
+        ScenarioCommand command = ScenarioFixtures.command(robots, instructionLength, ScenarioFixtures.SEED);
+        ScenarioRequest request = new ScenarioRequest(
+                command.grid().maxX(),
+                command.grid().maxY(),
+                command.programs().stream()
+                        .map(p -> new RobotProgramRequest(p.startX(), p.startY(),
+                                String.valueOf(p.orientation()), p.instructions()))
+                        .toList()
+        );
+        jsonBody = mapper.writeValueAsBytes(request);
+        rawBody = ScenarioFixtures.raw(command);
+        binaryBody = BinaryScenarioCodec.encode(command);
+    }
+
+    @Benchmark
+    public byte[] execute() throws Exception {
+        ScenarioRequest request = mapper.readValue(jsonBody, ScenarioRequest.class);
+        ScenarioResult result = useCase.process(ScenarioWebMapper.toCommand(request));
+        return mapper.writeValueAsBytes(ScenarioWebMapper.toResponse(result));
+    }
+
+    @Benchmark
+    public byte[] executeRawPlain() {
+        ScenarioResult result = useCase.process(RawScenarioParser.parse(rawBody));
+        StringBuilder sb = new StringBuilder();
+        result.finals().forEach(f -> sb.append(f.x()).append(' ').append(f.y()).append(' ')
+                .append(f.orientation()).append('\n'));
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] executeBinary() {
+        var decoder = new BinaryScenarioCodec.Decoder(new ByteArrayInputStream(binaryBody));
+        ScenarioRun run = useCase.open(decoder.grid());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryScenarioCodec.writeResultCount(out, decoder.robots());
+        while (decoder.hasNext()) {
+            BinaryScenarioCodec.Robot r = decoder.next();
+            BinaryScenarioCodec.writeResult(out, run.execute(r.x(), r.y(), r.orientation(), r.instructions()));
+        }
+        return out.toByteArray();
+    }
+}
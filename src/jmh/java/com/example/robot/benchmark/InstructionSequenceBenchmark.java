@@ -0,0 +1,28 @@
+package com.example.robot.benchmark;
+
+import com.example.robot.domain.InstructionSequence;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Cost of turning a raw instruction string into an {@link InstructionSequence}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InstructionSequenceBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int length;
+
+    private String raw;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        raw = ScenarioFixtures.instructions(length, ScenarioFixtures.SEED);
+    }
+
+    @Benchmark
+    public InstructionSequence parse() {
+        return InstructionSequence.parse(raw);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.robot.benchmark;
+
+import com.example.robot.domain.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-robot execution cost of {@link Navigator#apply} for growing program lengths,
+ * with and without an occupancy to check against.
+ *
+ * <p>The {@code stepwise_*} variants use a policy with IgnorePolicy semantics that is not
+ * an {@link IgnorePolicy} instance, which keeps Navigator on its step-by-step loop and
+ * serves as the baseline for the primitive kernel.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NavigatorBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int steps;
+
+    private final Navigator navigator = new Navigator(new IgnorePolicy());
+    private final Navigator stepwise = new Navigator((robot, next) -> {
+        if (robot.grid().inside(next)) robot.moveTo(next);
+    });
+    private Grid grid;
+    private InstructionSequence program;
+    private CompiledProgram compiled;
+    private Occupancy occupancy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        grid = new Grid(1_000, 1_000);
+        program = InstructionSequence.parse(ScenarioFixtures.instructions(steps, ScenarioFixtures.SEED));
+        compiled = ProgramCompiler.compile(program);
+        occupancy = new SetOccupancy();
+        for (int i = 0; i < 1_000; i += 10) {
+            occupancy.occupy(new Position(i, 1_000 - i));
+        }
+    }
+
+    @Benchmark
+    public Robot apply_without_occupancy() {
+        Robot robot = new Robot(new Position(500, 500), Orientation.N, grid);
+        navigator.apply(robot, program);
+        return robot;
+    }
+
+    @Benchmark
+    public Robot apply_with_occupancy() {
+        Robot robot = new Robot(new Position(500, 500), Orientation.N, grid);
+        navigator.apply(robot, program, occupancy, false);
+        return robot;
+    }
+
+    @Benchmark
+    public Robot stepwise_without_occupancy() {
+        Robot robot = new Robot(new Position(500, 500), Orientation.N, grid);
+        stepwise.apply(robot, program);
+        return robot;
+    }
+
+    @Benchmark
+    public Robot stepwise_with_occupancy() {
+        Robot robot = new Robot(new Position(500, 500), Orientation.N, grid);
+        stepwise.apply(robot, program, occupancy, false);
+        return robot;
+    }
+
+    @Benchmark
+    public Robot compiled_with_occupancy() {
+        Robot robot = new Robot(new Position(500, 500), Orientation.N, grid);
+        navigator.apply(robot, compiled, occupancy, false);
+        return robot;
+    }
+
+    /** Compile plus run: what the scenario service pays per robot. */
+    @Benchmark
+    public Robot compile_and_apply_with_occupancy() {
+        Robot robot = new Robot(new Position(500, 500), Orientation.N, grid);
+        navigator.apply(robot, ProgramCompiler.compile(program), occupancy, false);
+        return robot;
+    }
+}
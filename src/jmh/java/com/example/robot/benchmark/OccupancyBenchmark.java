@@ -0,0 +1,66 @@
+package com.example.robot.benchmark;
+
+import com.example.robot.domain.DenseGridOccupancy;
+import com.example.robot.domain.Grid;
+import com.example.robot.domain.Occupancy;
+import com.example.robot.domain.Position;
+import com.example.robot.domain.SetOccupancy;
+import com.example.robot.domain.SparseLongOccupancy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup latency of {@link Occupancy#isFree} for growing numbers of occupied cells,
+ * per implementation.
+ * Probes are half hits and half misses, in a fixed pseudo-random order.
+ *
+ * <p>Retained memory per occupied cell is reported by {@link OccupancyFootprint}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OccupancyBenchmark {
+
+    private static final int PROBES = 1 << 16;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int occupied;
+
+    @Param({"set", "dense", "sparse"})
+    public String impl;
+
+    private Occupancy occupancy;
+    private Position[] probes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int side = ScenarioFixtures.gridSideFor(occupied);
+        SplittableRandom rnd = new SplittableRandom(ScenarioFixtures.SEED);
+        Position[] cells = new Position[occupied];
+        occupancy = switch (impl) {
+            case "dense" -> new DenseGridOccupancy(new Grid(side, side));
+            case "sparse" -> new SparseLongOccupancy();
+            default -> new SetOccupancy();
+        };
+        for (int i = 0; i < occupied; i++) {
+            cells[i] = new Position(rnd.nextInt(side + 1), rnd.nextInt(side + 1));
+            occupancy.occupy(cells[i]);
+        }
+        probes = new Position[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = (i & 1) == 0
+                    ? cells[rnd.nextInt(occupied)]
+                    : new Position(rnd.nextInt(side + 1), rnd.nextInt(side + 1));
+        }
+    }
+
+    @Benchmark
+    public boolean isFree() {
+        Position p = probes[next];
+        next = (next + 1) & (PROBES - 1);
+        return occupancy.isFree(p);
+    }
+}
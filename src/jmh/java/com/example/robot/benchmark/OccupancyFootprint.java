@@ -0,0 +1,43 @@
+package com.example.robot.benchmark;
+
+import com.example.robot.domain.Occupancy;
+import com.example.robot.domain.Position;
+import com.example.robot.domain.SetOccupancy;
+import com.example.robot.domain.SparseLongOccupancy;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Prints the retained heap per occupied cell of the hash-based occupancies,
+ * measured with JOL over the whole object graph.
+ *
+ * <p>Run with:
+ * {@code ./mvnw -Pjmh compile exec:exec -Djmh.main=com.example.robot.benchmark.OccupancyFootprint -Djmh.args=}</p>
+ */
+public final class OccupancyFootprint {
+
+    /** Cells are spread over a 2^31-wide floor, as on the warehouse grids. */
+    private static final int SIDE = Integer.MAX_VALUE;
+
+    private OccupancyFootprint() { }
+
+    public static void main(String[] args) {
+        System.out.printf("%-8s %10s %14s %12s%n", "impl", "cells", "bytes", "bytes/cell");
+        for (int cells : new int[]{1_000, 10_000, 100_000, 1_000_000}) {
+            report("set", cells, SetOccupancy::new);
+            report("sparse", cells, SparseLongOccupancy::new);
+        }
+    }
+
+    private static void report(String name, int cells, Supplier<Occupancy> factory) {
+        Occupancy occupancy = factory.get();
+        SplittableRandom rnd = new SplittableRandom(ScenarioFixtures.SEED);
+        for (int i = 0; i < cells; i++) {
+            occupancy.occupy(new Position(rnd.nextInt(SIDE), rnd.nextInt(SIDE)));
+        }
+        long bytes = GraphLayout.parseInstance(occupancy).totalSize();
+        System.out.printf("%-8s %10d %14d %12.1f%n", name, cells, bytes, (double) bytes / cells);
+    }
+}
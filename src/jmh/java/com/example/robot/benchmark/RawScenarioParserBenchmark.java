@@ -0,0 +1,32 @@
+package com.example.robot.benchmark;
+
+import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.infrastructure.parserRaw.RawScenarioParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Parsing cost of the raw text format for growing robot counts. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RawScenarioParserBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int robots;
+
+    @Param({"16"})
+    public int instructionLength;
+
+    private String raw;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        raw = ScenarioFixtures.raw(ScenarioFixtures.command(robots, instructionLength, ScenarioFixtures.SEED));
+    }
+
+    @Benchmark
+    public ScenarioCommand parse() {
+        return RawScenarioParser.parse(raw);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.robot.benchmark;
+
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.application.port.in.RobotProgram;
+import com.example.robot.application.port.in.ScenarioCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic scenario generators shared by the benchmarks.
+ *
+ * <p>Every generator takes an explicit seed so two runs of the same benchmark
+ * always measure the same input.</p>
+ */
+public final class ScenarioFixtures {
+
+    /** Seed used by all benchmarks unless they need several independent inputs. */
+    public static final long SEED = 42L;
+
+    private static final char[] ORIENTATIONS = {'N', 'E', 'S', 'W'};
+
+    private ScenarioFixtures() { }
+
+    /**
+     * Random program biased towards moves (50% M, 25% L, 25% R),
+     * which is close to the shape of real cleaning routes.
+     */
+    public static String instructions(int length, long seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        char[] out = new char[length];
+        for (int i = 0; i < length; i++) {
+            int r = rnd.nextInt(4);
+            out[i] = r < 2 ? 'M' : (r == 2 ? 'L' : 'R');
+        }
+        return new String(out);
+    }
+
+    /**
+     * Scenario with {@code robots} programs of {@code instructionLength} instructions each,
+     * on a square grid big enough to keep the floor sparsely populated.
+     */
+    public static ScenarioCommand command(int robots, int instructionLength, long seed) {
+        int side = gridSideFor(robots);
+        SplittableRandom rnd = new SplittableRandom(seed);
+        List<RobotProgram> programs = new ArrayList<>(robots);
+        for (int i = 0; i < robots; i++) {
+            programs.add(new RobotProgram(
+                    rnd.nextInt(side + 1),
+                    rnd.nextInt(side + 1),
+                    ORIENTATIONS[rnd.nextInt(4)],
+                    instructions(instructionLength, rnd.nextLong())
+            ));
+        }
+        return new ScenarioCommand(new GridSize(side, side), programs);
+    }
+
+    /** Renders a command in the raw text format accepted by {@code RawScenarioParser}. */
+    public static String raw(ScenarioCommand command) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(command.grid().maxX()).append(' ').append(command.grid().maxY()).append('\n');
+        for (RobotProgram p : command.programs()) {
+            sb.append(p.startX()).append(' ').append(p.startY()).append(' ').append(p.orientation()).append('\n');
+            sb.append(p.instructions()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /** Roughly ten free cells per robot, never smaller than the 5x5 sample grid. */
+    public static int gridSideFor(int robots) {
+        return Math.max(5, (int) Math.sqrt(robots * 10.0));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.robot.benchmark;
+
+import com.example.robot.application.port.in.ProcessScenarioUseCase;
+import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.application.port.in.ScenarioResult;
+import com.example.robot.application.service.ExecutionMode;
+import com.example.robot.application.service.RobotScenarioService;
+import com.example.robot.application.service.ScenarioExecutionSettings;
+import com.example.robot.domain.IgnorePolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** End-to-end cost of {@link RobotScenarioService#process} for growing robot counts, per execution mode. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScenarioServiceBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int robots;
+
+    @Param({"16"})
+    public int instructionLength;
+
+    @Param({"SEQUENTIAL", "PARALLEL", "SPECULATIVE"})
+    public ExecutionMode mode;
+
+    private ProcessScenarioUseCase useCase;
+    private ScenarioCommand command;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        useCase = new RobotScenarioService(new IgnorePolicy(), ScenarioExecutionSettings.defaults().withMode(mode));
+        command = ScenarioFixtures.command(robots, instructionLength, ScenarioFixtures.SEED);
+    }
+
+    @Benchmark
+    public ScenarioResult process() {
+        return useCase.process(command);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.robot.application.port.in;
+
+/** Application use case: process a scenario while recording paths and/or cleaned floor. */
+public interface InspectScenarioUseCase {
+    ScenarioInspection inspect(ScenarioCommand command, InspectionOptions options);
+}
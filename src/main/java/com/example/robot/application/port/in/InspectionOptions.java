@@ -0,0 +1,15 @@
+package com.example.robot.application.port.in;
+
+/**
+ * App-level DTO: what to record while inspecting a scenario.
+ *
+ * @param trace    record every robot's path
+ * @param coverage count the cells cleaned per robot and in total
+ * @param bitmap   also return the cleaned cells as a bitmap (implies {@code coverage})
+ */
+public record InspectionOptions(boolean trace, boolean coverage, boolean bitmap) {
+
+    public InspectionOptions {
+        coverage |= bitmap;
+    }
+}
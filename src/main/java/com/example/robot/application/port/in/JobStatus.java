@@ -0,0 +1,17 @@
+package com.example.robot.application.port.in;
+
+/** Lifecycle of a background scenario job. */
+public enum JobStatus {
+
+    /** Accepted, waiting for a worker. */
+    QUEUED,
+
+    /** Robots are being executed. */
+    RUNNING,
+
+    /** Every robot ran; the final states are available. */
+    SUCCEEDED,
+
+    /** The scenario was rejected by a domain rule or invalid input. */
+    FAILED
+}
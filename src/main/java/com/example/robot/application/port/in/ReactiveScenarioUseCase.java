@@ -0,0 +1,24 @@
+package com.example.robot.application.port.in;
+
+import java.util.concurrent.Flow;
+
+/** Application use case: process a scenario fed as a {@link Flow.Publisher} of robots, with back-pressure. */
+public interface ReactiveScenarioUseCase {
+
+    /**
+     * Runs the robots published by {@code programs} on one grid, in arrival order: each
+     * robot sees the final positions of the robots received before it, as in
+     * {@link ProcessScenarioUseCase}.
+     *
+     * <p>
+     * The returned publisher is cold: every subscriber gets a new scenario, on an empty
+     * grid, and a new subscription to {@code programs}. Each program yields exactly one
+     * final state, so programs are requested only as final states are requested.
+     * </p>
+     *
+     * @param grid     upper-right corner of the grid
+     * @param programs robots to execute, in scenario order
+     * @return the final states, in the same order
+     */
+    Flow.Publisher<FinalState> process(GridSize grid, Flow.Publisher<RobotProgram> programs);
+}
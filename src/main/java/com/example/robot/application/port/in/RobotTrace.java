@@ -0,0 +1,12 @@
+package com.example.robot.application.port.in;
+
+/**
+ * App-level DTO: one robot's path, one 2-bit code per instruction packed four per byte,
+ * first step in the lowest bits ({@code 0} left, {@code 1} right, {@code 2} moved,
+ * {@code 3} move refused).
+ *
+ * @param steps number of recorded steps
+ * @param path  the packed codes
+ */
+public record RobotTrace(int steps, byte[] path) {
+}
@@ -0,0 +1,14 @@
+package com.example.robot.application.port.in;
+
+/**
+ * App-level DTO: counters of the scenario result cache.
+ *
+ * @param hits      lookups answered from the cache
+ * @param misses    lookups that ran the scenario
+ * @param evictions entries dropped to stay within the bounds
+ * @param skipped   results not cached because they exceeded the entry size limit
+ * @param entries   entries currently cached
+ * @param bytes     estimated memory held by the current entries
+ */
+public record ScenarioCacheStats(long hits, long misses, long evictions, long skipped, int entries, long bytes) {
+}
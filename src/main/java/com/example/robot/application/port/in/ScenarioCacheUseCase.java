@@ -0,0 +1,6 @@
+package com.example.robot.application.port.in;
+
+/** Application use case: inspect the scenario result cache. */
+public interface ScenarioCacheUseCase {
+    ScenarioCacheStats stats();
+}
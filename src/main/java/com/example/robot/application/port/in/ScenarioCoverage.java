@@ -0,0 +1,14 @@
+package com.example.robot.application.port.in;
+
+/**
+ * App-level DTO: floor cleaned by a scenario. A cell counts once a robot starts on it or
+ * moves onto it.
+ *
+ * @param robotCells   distinct cells cleaned by each robot, in program order
+ * @param coveredCells distinct cells cleaned by any robot
+ * @param area         cells in the grid
+ * @param bitmap       cleaned cells, bit {@code y * (maxX + 1) + x} least significant bit
+ *                     first; {@code null} unless requested and the grid is small enough
+ */
+public record ScenarioCoverage(int[] robotCells, long coveredCells, long area, byte[] bitmap) {
+}
@@ -0,0 +1,13 @@
+package com.example.robot.application.port.in;
+
+import java.util.List;
+
+/**
+ * App-level DTO: final states plus whatever the {@link InspectionOptions} asked for.
+ *
+ * @param finals   final state per robot, in program order
+ * @param traces   path per robot, or {@code null} if not requested
+ * @param coverage cleaned floor, or {@code null} if not requested
+ */
+public record ScenarioInspection(List<FinalState> finals, List<RobotTrace> traces, ScenarioCoverage coverage) {
+}
@@ -0,0 +1,13 @@
+package com.example.robot.application.port.in;
+
+/**
+ * App-level DTO: snapshot of a background scenario job.
+ *
+ * @param id        job identifier
+ * @param status    current status
+ * @param completed robots executed so far
+ * @param total     robots in the scenario
+ * @param error     failure message when {@code status} is {@link JobStatus#FAILED}, else null
+ */
+public record ScenarioJob(String id, JobStatus status, int completed, int total, String error) {
+}
@@ -0,0 +1,24 @@
+package com.example.robot.application.port.in;
+
+import java.util.List;
+import java.util.Optional;
+
+/** Application use case: run scenarios in the background and poll for their outcome. */
+public interface ScenarioJobUseCase {
+
+    /**
+     * Accepts a scenario for background execution and returns at once.
+     *
+     * @throws ScenarioRejectedException if too many jobs are already queued or running
+     */
+    ScenarioJob submit(ScenarioCommand command);
+
+    /** Current snapshot of a job, or empty if it is unknown or has expired. */
+    Optional<ScenarioJob> find(String id);
+
+    /**
+     * Final states of a {@link JobStatus#SUCCEEDED} job, in robot order; empty if the job
+     * is unknown, has expired or has not succeeded.
+     */
+    Optional<List<FinalState>> result(String id);
+}
@@ -0,0 +1,12 @@
+package com.example.robot.application.port.in;
+
+/**
+ * Raised when a scenario cannot be admitted for execution right now because the
+ * execution capacity is exhausted. Retrying later may succeed.
+ */
+public class ScenarioRejectedException extends RuntimeException {
+
+    public ScenarioRejectedException(String message) {
+        super(message);
+    }
+}
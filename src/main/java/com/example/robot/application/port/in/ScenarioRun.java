@@ -0,0 +1,39 @@
+package com.example.robot.application.port.in;
+
+import com.example.robot.domain.InstructionSequence;
+
+/**
+ * One scenario in progress: robots are executed one at a time, in call order, and
+ * each one sees the final positions of the robots executed before it.
+ *
+ * <p>Not thread-safe.</p>
+ */
+public interface ScenarioRun {
+
+    /**
+     * Executes the next robot of the scenario.
+     *
+     * @param program initial pose and instructions of the robot
+     * @return the robot's final state
+     */
+    FinalState execute(RobotProgram program);
+
+    /**
+     * Executes the next robot from instructions that are already decoded, e.g. by a
+     * binary codec, skipping the text form altogether.
+     *
+     * @param startX       initial x coordinate
+     * @param startY       initial y coordinate
+     * @param orientation  initial orientation ({@code N}, {@code E}, {@code S} or {@code W})
+     * @param instructions the robot's instructions
+     * @return the robot's final state
+     */
+    FinalState execute(int startX, int startY, char orientation, InstructionSequence instructions);
+
+    /**
+     * Whether a robot executed so far in this run occupies the cell.
+     *
+     * @throws IllegalArgumentException if the cell is outside the grid
+     */
+    boolean isOccupied(int x, int y);
+}
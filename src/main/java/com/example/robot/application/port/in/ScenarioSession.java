@@ -0,0 +1,11 @@
+package com.example.robot.application.port.in;
+
+/**
+ * App-level DTO: snapshot of a scenario session.
+ *
+ * @param id     session identifier
+ * @param grid   upper-right corner of the session's grid
+ * @param robots robots placed so far
+ */
+public record ScenarioSession(String id, GridSize grid, int robots) {
+}
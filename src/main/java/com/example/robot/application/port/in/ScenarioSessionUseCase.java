@@ -0,0 +1,44 @@
+package com.example.robot.application.port.in;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Application use case: a scenario kept in memory between requests, so robots can be
+ * added a few at a time without resending the ones already placed.
+ */
+public interface ScenarioSessionUseCase {
+
+    /**
+     * Opens a session on an empty grid.
+     *
+     * @throws ScenarioRejectedException if too many sessions are already open
+     */
+    ScenarioSession create(GridSize grid);
+
+    /**
+     * Executes more robots after those already in the session, each one seeing the final
+     * positions of all the robots before it. If a robot fails, the ones before it in
+     * {@code programs} stay placed.
+     *
+     * @return the final states of the new robots, in order; empty if the session is
+     *         unknown or has expired
+     */
+    Optional<List<FinalState>> append(String id, List<RobotProgram> programs);
+
+    /** Current snapshot of a session, or empty if it is unknown or has expired. */
+    Optional<ScenarioSession> find(String id);
+
+    /** Final states of every robot of the session, in placement order; empty if the session is unknown or has expired. */
+    Optional<List<FinalState>> finals(String id);
+
+    /**
+     * Whether a robot of the session occupies the cell; empty if the session is unknown or has expired.
+     *
+     * @throws IllegalArgumentException if the cell is outside the grid
+     */
+    Optional<Boolean> isOccupied(String id, int x, int y);
+
+    /** Closes a session and releases its memory; {@code false} if it is unknown or has expired. */
+    boolean close(String id);
+}
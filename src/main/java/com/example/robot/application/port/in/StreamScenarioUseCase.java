@@ -0,0 +1,13 @@
+package com.example.robot.application.port.in;
+
+/** Application use case: process a scenario robot by robot, as its programs arrive. */
+public interface StreamScenarioUseCase {
+
+    /**
+     * Starts a scenario on an empty grid.
+     *
+     * @param grid upper-right corner of the grid
+     * @return a run to feed the robot programs into, in scenario order
+     */
+    ScenarioRun open(GridSize grid);
+}
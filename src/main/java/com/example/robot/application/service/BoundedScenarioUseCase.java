@@ -0,0 +1,123 @@
+package com.example.robot.application.service;
+
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.application.port.in.InspectScenarioUseCase;
+import com.example.robot.application.port.in.InspectionOptions;
+import com.example.robot.application.port.in.ProcessScenarioUseCase;
+import com.example.robot.application.port.in.RobotProgram;
+import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.application.port.in.ScenarioInspection;
+import com.example.robot.application.port.in.ScenarioRejectedException;
+import com.example.robot.application.port.in.ScenarioResult;
+import com.example.robot.application.port.in.ScenarioRun;
+import com.example.robot.application.port.in.StreamScenarioUseCase;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+/**
+ * Admission control in front of another {@link ProcessScenarioUseCase}.
+ *
+ * <p>
+ * Scenarios with at most {@code inlineMaxInstructions} instructions in total run
+ * directly on the calling thread, so small requests never wait behind large ones.
+ * Larger scenarios are handed to a dedicated, size-limited pool; when its queue is
+ * full the scenario is refused with a {@link ScenarioRejectedException} instead of
+ * piling up. The caller blocks until its scenario is done, which is cheap on a
+ * virtual thread.
+ * </p>
+ *
+ * <p>
+ * Inspections go through the same admission control. Streamed runs are admitted once, when
+ * they are opened: a run is refused while the pool's queue is full, and once open all of
+ * its robots execute on the caller, so it can never fail halfway for lack of capacity.
+ * </p>
+ */
+public final class BoundedScenarioUseCase
+        implements ProcessScenarioUseCase, InspectScenarioUseCase, StreamScenarioUseCase, AutoCloseable {
+
+    private final ProcessScenarioUseCase delegate;
+    private final InspectScenarioUseCase inspector;
+    private final StreamScenarioUseCase streams;
+    private final ThreadPoolExecutor pool;
+    private final long inlineMaxInstructions;
+
+    /**
+     * @param delegate              the use case doing the work
+     * @param pool                  bounded pool for large scenarios; it must reject
+     *                              tasks when full rather than run or queue them
+     * @param inlineMaxInstructions largest total instruction count run on the caller
+     */
+    public <D extends ProcessScenarioUseCase & InspectScenarioUseCase & StreamScenarioUseCase> BoundedScenarioUseCase(
+            D delegate, ThreadPoolExecutor pool, long inlineMaxInstructions) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.inspector = delegate;
+        this.streams = delegate;
+        this.pool = Objects.requireNonNull(pool);
+        this.inlineMaxInstructions = inlineMaxInstructions;
+    }
+
+    @Override
+    public ScenarioResult process(ScenarioCommand command) {
+        Objects.requireNonNull(command, "command must not be null");
+        return admit(command, () -> delegate.process(command));
+    }
+
+    @Override
+    public ScenarioInspection inspect(ScenarioCommand command, InspectionOptions options) {
+        Objects.requireNonNull(command, "command must not be null");
+        return admit(command, () -> inspector.inspect(command, options));
+    }
+
+    @Override
+    public ScenarioRun open(GridSize grid) {
+        if (pool.getQueue().remainingCapacity() == 0) {
+            throw new ScenarioRejectedException("Scenario execution capacity exhausted, retry later");
+        }
+        return streams.open(grid);
+    }
+
+    /** Runs the work inline for small scenarios, on the pool otherwise. */
+    private <T> T admit(ScenarioCommand command, Supplier<T> work) {
+        if (instructions(command) <= inlineMaxInstructions) {
+            return work.get();
+        }
+
+        Future<T> future;
+        try {
+            future = pool.submit(work::get);
+        } catch (RejectedExecutionException e) {
+            throw new ScenarioRejectedException("Scenario execution capacity exhausted, retry later");
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the scenario", e);
+        }
+    }
+
+    /** Shuts the pool down; scenarios already admitted still complete. */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private static long instructions(ScenarioCommand command) {
+        long total = 0;
+        for (RobotProgram p : command.programs()) {
+            total += p.instructions() == null ? 0 : p.instructions().length();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.robot.application.service;
+
+import com.example.robot.application.port.in.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Content-addressed result cache in front of another {@link ProcessScenarioUseCase}.
+ *
+ * <p>
+ * Scenarios are keyed by their normalized content: grid plus programs, with orientations
+ * and instructions upper-cased. A 64-bit hash built from the grid, the coordinates and
+ * the (vectorized, per-string) {@code String.hashCode} of every instruction line picks
+ * the bucket; the full command is then compared, so a hash collision can never return
+ * another scenario's result.
+ * </p>
+ *
+ * <p>
+ * Entries are evicted in least-recently-used order once there are more than
+ * {@code maxEntries} of them or their estimated size exceeds {@code maxBytes}. Results
+ * whose estimated size exceeds {@code maxEntryBytes} are never cached. Failures are not
+ * cached either.
+ * </p>
+ *
+ * <p>Inspections and streamed runs are never cached; they are passed to the delegate as they are.</p>
+ */
+public final class CachingScenarioUseCase
+        implements ProcessScenarioUseCase, InspectScenarioUseCase, StreamScenarioUseCase, ScenarioCacheUseCase {
+
+    /** Rough per-robot overhead of a cached entry: program, final state and list slots. */
+    static final int BYTES_PER_ROBOT = 128;
+
+    private final ProcessScenarioUseCase delegate;
+    private final InspectScenarioUseCase inspector;
+    private final StreamScenarioUseCase streams;
+    private final int maxEntries;
+    private final long maxEntryBytes;
+
+    private final LruCache<Key, ScenarioResult> cache;
+    private final AtomicLong skipped = new AtomicLong();
+
+    /**
+     * @param delegate      the use case computing results on a miss, and running inspections and streams
+     * @param maxEntries    most entries kept (0 disables the cache)
+     * @param maxBytes      most estimated bytes kept across all entries
+     * @param maxEntryBytes largest estimated entry that is cached
+     */
+    public <D extends ProcessScenarioUseCase & InspectScenarioUseCase & StreamScenarioUseCase> CachingScenarioUseCase(
+            D delegate, int maxEntries, long maxBytes, long maxEntryBytes) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.inspector = delegate;
+        this.streams = delegate;
+        this.maxEntries = maxEntries;
+        this.maxEntryBytes = maxEntryBytes;
+        this.cache = new LruCache<>(maxEntries, maxBytes);
+    }
+
+    @Override
+    public ScenarioResult process(ScenarioCommand command) {
+        Objects.requireNonNull(command, "command must not be null");
+        ScenarioCommand normalized = maxEntries > 0 ? normalize(command) : null;
+        if (normalized == null) {
+            return delegate.process(command); // disabled, or malformed: left to the delegate to report
+        }
+        long size = estimateBytes(normalized);
+        if (size > maxEntryBytes) {
+            skipped.incrementAndGet();
+            return delegate.process(command);
+        }
+
+        Key key = new Key(hash(normalized), normalized);
+        ScenarioResult hit = cache.get(key);
+        if (hit != null) {
+            return hit;
+        }
+
+        // Computed outside the lock; concurrent misses on the same key may both run it
+        ScenarioResult result = delegate.process(command);
+        ScenarioResult cached = new ScenarioResult(List.copyOf(result.finals()));
+        Key stored = new Key(key.hash, new ScenarioCommand(normalized.grid(), List.copyOf(normalized.programs())));
+        cache.put(stored, cached, size);
+        return cached;
+    }
+
+    @Override
+    public ScenarioInspection inspect(ScenarioCommand command, InspectionOptions options) {
+        return inspector.inspect(command, options);
+    }
+
+    @Override
+    public ScenarioRun open(GridSize grid) {
+        return streams.open(grid);
+    }
+
+    @Override
+    public ScenarioCacheStats stats() {
+        synchronized (cache) {
+            return new ScenarioCacheStats(cache.hits(), cache.misses(), cache.evictions(), skipped.get(),
+                    cache.size(), cache.bytes());
+        }
+    }
+
+    /**
+     * Upper-cases orientations and instructions; returns the command itself when already
+     * normal, or {@code null} when it is missing its grid, programs or a program.
+     */
+    static ScenarioCommand normalize(ScenarioCommand command) {
+        List<RobotProgram> programs = command.programs();
+        if (command.grid() == null || programs == null) return null;
+        List<RobotProgram> normalized = null;
+        for (int i = 0; i < programs.size(); i++) {
+            RobotProgram p = programs.get(i);
+            if (p == null) return null;
+            char o = Character.toUpperCase(p.orientation());
+            String instructions = p.instructions() == null ? null : p.instructions().toUpperCase(Locale.ROOT);
+            boolean same = o == p.orientation() && instructions == p.instructions(); // toUpperCase returns this if unchanged
+            if (!same && normalized == null) {
+                normalized = new ArrayList<>(programs.subList(0, i));
+            }
+            if (normalized != null) {
+                normalized.add(same ? p : new RobotProgram(p.startX(), p.startY(), o, instructions));
+            }
+        }
+        return normalized == null ? command : new ScenarioCommand(command.grid(), normalized);
+    }
+
+    static long hash(ScenarioCommand command) {
+        long h = mix(((long) command.grid().maxX() << 32) ^ command.grid().maxY());
+        for (RobotProgram p : command.programs()) {
+            h = mix(h ^ (((long) p.startX() << 32) | (p.startY() & 0xffffffffL)));
+            String instructions = p.instructions();
+            long line = instructions == null ? 0 : ((long) instructions.length() << 32) | (instructions.hashCode() & 0xffffffffL);
+            h = mix(h ^ line ^ ((long) p.orientation() << 56));
+        }
+        return h;
+    }
+
+    static long estimateBytes(ScenarioCommand command) {
+        long size = 64;
+        for (RobotProgram p : command.programs()) {
+            size += BYTES_PER_ROBOT + (p.instructions() == null ? 0 : p.instructions().length());
+        }
+        return size;
+    }
+
+    /** Finalizer of SplitMix64: spreads every input bit over the whole word. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private record Key(long hash, ScenarioCommand command) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key k && k.hash == hash && k.command.equals(command);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(hash);
+        }
+    }
+}
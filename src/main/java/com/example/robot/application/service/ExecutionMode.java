@@ -0,0 +1,20 @@
+package com.example.robot.application.service;
+
+/** How {@link RobotScenarioService} schedules the robots of a scenario. */
+public enum ExecutionMode {
+
+    /** One robot after another, in program order. */
+    SEQUENTIAL,
+
+    /**
+     * Robots whose reachable region cannot contain the final cell of an earlier robot
+     * run concurrently; the others run afterwards in program order.
+     */
+    PARALLEL,
+
+    /**
+     * Every robot runs concurrently on an empty floor; robots whose path turns out to
+     * touch the final cell of an earlier robot are re-run in program order.
+     */
+    SPECULATIVE
+}
@@ -0,0 +1,62 @@
+package com.example.robot.application.service;
+
+import com.example.robot.application.port.in.FinalState;
+import com.example.robot.domain.Grid;
+import com.example.robot.domain.Navigator;
+import com.example.robot.domain.Occupancy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * {@link ExecutionMode#PARALLEL} scheduler.
+ *
+ * <p>
+ * A robot can only be influenced by the final cells of the robots before it, and each of
+ * those lies inside that robot's reachable region. So a robot whose region overlaps no
+ * earlier region is provably independent: it produces the same result on an empty floor.
+ * </p>
+ * <ol>
+ *   <li>Regions are marked in program order on a {@link TileMap}; a robot is independent
+ *       if none of its tiles was marked before.</li>
+ *   <li>Independent robots run concurrently on the pool, without occupancy.</li>
+ *   <li>A final pass in program order occupies their final cells and runs the dependent
+ *       robots against the real occupancy, exactly as the sequential loop does.</li>
+ * </ol>
+ */
+final class FootprintScheduler {
+
+    /** Upper bound on tiles, i.e. a 128 KB map. */
+    static final int MAX_TILES = 1 << 20;
+
+    private FootprintScheduler() { }
+
+    static List<FinalState> run(Grid grid, PreparedScenario scenario, Navigator navigator,
+                                Occupancy occupancy, ForkJoinPool pool) {
+        int n = scenario.size();
+
+        boolean[] independent = new boolean[n];
+        TileMap tiles = new TileMap(grid, MAX_TILES);
+        for (int i = 0; i < n; i++) {
+            independent[i] = !tiles.markOverlapping(scenario.reachableRegion(i));
+        }
+
+        FinalState[] finals = new FinalState[n];
+        pool.submit(() -> IntStream.range(0, n).parallel().filter(i -> independent[i]).forEach(i -> {
+            navigator.apply(scenario.robot(i), scenario.program(i), null, false);
+            finals[i] = scenario.finalState(i);
+        })).join();
+
+        for (int i = 0; i < n; i++) {
+            if (independent[i]) {
+                occupancy.occupy(scenario.robot(i).position());
+            } else {
+                navigator.apply(scenario.robot(i), scenario.program(i), occupancy, true);
+                finals[i] = scenario.finalState(i);
+            }
+        }
+        return Arrays.asList(finals);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.robot.application.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Least-recently-used map bounded by entry count and by the estimated bytes of its
+ * entries, with hit, miss and eviction counters. All methods lock the cache.
+ */
+final class LruCache<K, V> {
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maxEntries most entries kept
+     * @param maxBytes   most estimated bytes kept across all entries
+     */
+    LruCache(int maxEntries, long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /** The cached value, or {@code null}; a hit makes the entry the most recent. */
+    synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    /** Caches a value, then evicts the least recently used entries until within bounds. */
+    synchronized void put(K key, V value, long size) {
+        Entry<V> previous = entries.put(key, new Entry<>(value, size));
+        bytes += size - (previous == null ? 0 : previous.size);
+        Iterator<Entry<V>> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+            bytes -= eldest.next().size;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long bytes() {
+        return bytes;
+    }
+
+    synchronized long hits() {
+        return hits;
+    }
+
+    synchronized long misses() {
+        return misses;
+    }
+
+    synchronized long evictions() {
+        return evictions;
+    }
+
+    private record Entry<V>(V value, long size) { }
+}
@@ -0,0 +1,69 @@
+package com.example.robot.application.service;
+
+import com.example.robot.application.port.in.FinalState;
+import com.example.robot.application.port.in.RobotProgram;
+import com.example.robot.domain.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Robots and compiled programs of a scenario, built in parallel before scheduling.
+ *
+ * <p>Validation errors are collected per robot and the one of the earliest robot is
+ * rethrown, so callers see the same exception the sequential loop would raise.</p>
+ */
+final class PreparedScenario {
+
+    private final Robot[] robots;
+    private final CompiledProgram[] programs;
+
+    private PreparedScenario(Robot[] robots, CompiledProgram[] programs) {
+        this.robots = robots;
+        this.programs = programs;
+    }
+
+    static PreparedScenario prepare(Grid grid, List<RobotProgram> source, ForkJoinPool pool) {
+        int n = source.size();
+        Robot[] robots = new Robot[n];
+        CompiledProgram[] programs = new CompiledProgram[n];
+        RuntimeException[] errors = new RuntimeException[n];
+
+        pool.submit(() -> IntStream.range(0, n).parallel().forEach(i -> {
+            try {
+                RobotProgram p = source.get(i);
+                robots[i] = RobotScenarioService.newRobot(grid, p);
+                programs[i] = ProgramCompiler.compile(InstructionSequence.parse(p.instructions()));
+            } catch (RuntimeException e) {
+                errors[i] = e;
+            }
+        })).join();
+
+        for (RuntimeException e : errors) {
+            if (e != null) throw e;
+        }
+        return new PreparedScenario(robots, programs);
+    }
+
+    int size() {
+        return robots.length;
+    }
+
+    Robot robot(int index) {
+        return robots[index];
+    }
+
+    CompiledProgram program(int index) {
+        return programs[index];
+    }
+
+    Region reachableRegion(int index) {
+        Robot r = robots[index];
+        return programs[index].reachableRegion(r.grid(), r.position(), r.orientation());
+    }
+
+    FinalState finalState(int index) {
+        return RobotScenarioService.finalState(robots[index]);
+    }
+}
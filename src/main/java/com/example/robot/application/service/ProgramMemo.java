@@ -0,0 +1,81 @@
+package com.example.robot.application.service;
+
+import com.example.robot.application.port.in.FinalState;
+import com.example.robot.domain.Grid;
+import com.example.robot.domain.InstructionSequence;
+import com.example.robot.domain.Occupancy;
+import com.example.robot.domain.Orientation;
+import com.example.robot.domain.Region;
+import com.example.robot.domain.Robot;
+
+/**
+ * Final states of single robots that ran without meeting another robot, shared across
+ * scenarios.
+ *
+ * <p>
+ * Under {@link com.example.robot.domain.IgnorePolicy} a robot whose reachable region
+ * holds no occupied cell ends where it would on an empty grid, so its final state only
+ * depends on the grid size, its start pose and its instructions. Those runs are stored
+ * with their reachable region; a later lookup is answered only if that region is still
+ * free in the caller's occupancy, otherwise the robot must be simulated.
+ * </p>
+ *
+ * <p>Entries are evicted in least-recently-used order by count and estimated bytes.</p>
+ */
+public final class ProgramMemo {
+
+    /** Programs shorter than this are cheaper to run than to look up. */
+    public static final int DEFAULT_MIN_INSTRUCTIONS = 16;
+
+    private final LruCache<Key, Entry> cache;
+    private final int minInstructions;
+
+    /**
+     * @param maxEntries      most programs kept
+     * @param maxBytes        most estimated bytes kept across all entries
+     * @param minInstructions shorter programs are not memoized
+     */
+    public ProgramMemo(int maxEntries, long maxBytes, int minInstructions) {
+        this.cache = new LruCache<>(maxEntries, maxBytes);
+        this.minInstructions = minInstructions;
+    }
+
+    /**
+     * Key of a program on a grid, built from its parsed pose and instructions so that
+     * spellings of the same program, such as {@code "lrm"} and {@code "LRM"}, share it.
+     */
+    record Key(int maxX, int maxY, int startX, int startY, Orientation orientation, InstructionSequence instructions) { }
+
+    private record Entry(Region region, FinalState result) { }
+
+    /**
+     * The memo key for the robot about to run the instructions, or {@code null} when they
+     * are too short to be worth it.
+     */
+    Key key(Grid grid, Robot robot, InstructionSequence instructions) {
+        if (instructions.size() < minInstructions) return null;
+        return new Key(grid.maxX(), grid.maxY(), robot.position().x(), robot.position().y(),
+                robot.orientation(), instructions);
+    }
+
+    /**
+     * The memoized final state, or {@code null} if the program is unknown or the
+     * occupancy now has a robot inside its reachable region.
+     */
+    FinalState lookup(Key key, Occupancy occupancy) {
+        Entry entry = cache.get(key);
+        if (entry == null) return null;
+        Region r = entry.region;
+        return occupancy.isFreeArea(r.minX(), r.minY(), r.maxX(), r.maxY()) ? entry.result : null;
+    }
+
+    /** Records the outcome of a run whose reachable region was free. */
+    void store(Key key, Region region, FinalState result) {
+        cache.put(key, new Entry(region, result), 96 + key.instructions().size() / 4);
+    }
+
+    /** Number of programs currently memoized. */
+    public int size() {
+        return cache.size();
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.robot.application.service;
+
+import com.example.robot.application.port.in.FinalState;
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.application.port.in.ReactiveScenarioUseCase;
+import com.example.robot.application.port.in.RobotProgram;
+import com.example.robot.application.port.in.ScenarioRun;
+import com.example.robot.application.port.in.StreamScenarioUseCase;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * {@link ReactiveScenarioUseCase} on top of a {@link StreamScenarioUseCase}.
+ *
+ * <p>
+ * Every subscription opens a {@link ScenarioRun} and subscribes to the programs with a
+ * {@link Relay} that executes each program as it arrives and passes its final state on.
+ * Since one program makes one final state, downstream demand is forwarded upstream as
+ * is: no program is buffered and nothing is requested ahead. {@code onNext} signals are
+ * serialized by the upstream publisher, so robots run one at a time, in order, with the
+ * sequential occupancy semantics of the run.
+ * </p>
+ *
+ * <p>
+ * A robot that fails (e.g. one starting outside the grid) cancels the programs and ends
+ * the results with its exception.
+ * </p>
+ */
+public final class ReactiveScenarioService implements ReactiveScenarioUseCase {
+
+    private final StreamScenarioUseCase delegate;
+
+    public ReactiveScenarioService(StreamScenarioUseCase delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public Flow.Publisher<FinalState> process(GridSize grid, Flow.Publisher<RobotProgram> programs) {
+        Objects.requireNonNull(grid, "grid must not be null");
+        Objects.requireNonNull(programs, "programs must not be null");
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber must not be null");
+            ScenarioRun run;
+            try {
+                run = delegate.open(grid);
+            } catch (RuntimeException e) {
+                subscriber.onSubscribe(Relay.NOOP);
+                subscriber.onError(e);
+                return;
+            }
+            programs.subscribe(new Relay(run, subscriber));
+        };
+    }
+
+    /** Subscriber to the programs and subscription of the final states, one per scenario. */
+    private static final class Relay implements Flow.Subscriber<RobotProgram>, Flow.Subscription {
+
+        static final Flow.Subscription NOOP = new Flow.Subscription() {
+            @Override public void request(long n) { }
+            @Override public void cancel() { }
+        };
+
+        private final ScenarioRun run;
+        private final Flow.Subscriber<? super FinalState> downstream;
+        private volatile Flow.Subscription upstream;
+        private volatile boolean cancelled;
+        private boolean done; // only touched by the serialized upstream signals
+
+        Relay(ScenarioRun run, Flow.Subscriber<? super FinalState> downstream) {
+            this.run = run;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (upstream != null) {
+                subscription.cancel(); // a subscriber is subscribed once
+                return;
+            }
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(RobotProgram program) {
+            if (done || cancelled) return;
+            FinalState result;
+            try {
+                result = run.execute(program);
+            } catch (RuntimeException e) {
+                done = true;
+                upstream.cancel();
+                downstream.onError(e);
+                return;
+            }
+            downstream.onNext(result);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            if (done) return;
+            done = true;
+            downstream.onError(error);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) return;
+            done = true;
+            downstream.onComplete();
+        }
+
+        /** One final state per program: the demand goes upstream unchanged, invalid values included. */
+        @Override
+        public void request(long n) {
+            if (!cancelled) upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            upstream.cancel();
+        }
+    }
+}
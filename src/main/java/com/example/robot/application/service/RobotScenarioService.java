@@ -11,16 +11,69 @@ import java.util.Objects;
 /**
  * Application service: orchestrates domain components to process a scenario.
  * KISS/SOLID: no business rules here; only coordination and mapping.
+ *
+ * <p>Grids with an area up to {@code denseOccupancyMaxCells} track occupied cells in a
+ * {@link DenseGridOccupancy} bitset; larger grids use a primitive
+ * {@link SparseLongOccupancy} hash table.</p>
+ *
+ * <p>Robots are scheduled according to the configured {@link ExecutionMode}. Every mode
+ * returns exactly the finals of the sequential loop; the parallel ones are only used with
+ * {@link IgnorePolicy} and for scenarios of at least {@code parallelMinRobots} robots.</p>
+ *
+ * <p>{@link #open(GridSize)} runs the sequential loop one robot at a time, for callers
+ * that receive the programs as a stream.</p>
+ *
+ * <p>{@link #inspect} always runs the sequential loop, one instruction at a time, feeding
+ * each robot's steps to a {@link Trajectory} and/or the scenario's {@link Coverage}.</p>
+ *
+ * <p>With a {@link ProgramMemo} and {@link IgnorePolicy}, the sequential loop answers a
+ * robot from the memo when none of its reachable region is occupied, and memoizes robots
+ * that ran on a free region.</p>
  */
-public final class RobotScenarioService implements ProcessScenarioUseCase {
+public final class RobotScenarioService implements ProcessScenarioUseCase, StreamScenarioUseCase, InspectScenarioUseCase {
 
+    /** Default area limit for the bitset occupancy: 1M cells, i.e. a 128 KB bitset. */
+    public static final long DEFAULT_DENSE_OCCUPANCY_MAX_CELLS = ScenarioExecutionSettings.DEFAULT_DENSE_OCCUPANCY_MAX_CELLS;
 
     private final Navigator navigator;
     private final OutOfBoundsPolicy policy;
+    private final ScenarioExecutionSettings settings;
+    private final long denseOccupancyMaxCells;
+    private final ProgramMemo memo;
 
     public RobotScenarioService(OutOfBoundsPolicy policy) {
+        this(policy, ScenarioExecutionSettings.defaults());
+    }
+
+    /**
+     * @param policy                 the out-of-bounds policy to use
+     * @param denseOccupancyMaxCells largest grid area that gets a bitset occupancy
+     *                               (0 disables it)
+     */
+    public RobotScenarioService(OutOfBoundsPolicy policy, long denseOccupancyMaxCells) {
+        this(policy, ScenarioExecutionSettings.defaults().withDenseOccupancyMaxCells(denseOccupancyMaxCells));
+    }
+
+    /**
+     * @param policy   the out-of-bounds policy to use
+     * @param settings occupancy and scheduling settings
+     */
+    public RobotScenarioService(OutOfBoundsPolicy policy, ScenarioExecutionSettings settings) {
+        this(policy, settings, null);
+    }
+
+    /**
+     * @param policy   the out-of-bounds policy to use
+     * @param settings occupancy and scheduling settings
+     * @param memo     single-robot results shared across scenarios (null disables it);
+     *                 only used with {@link IgnorePolicy}
+     */
+    public RobotScenarioService(OutOfBoundsPolicy policy, ScenarioExecutionSettings settings, ProgramMemo memo) {
         this.policy = Objects.requireNonNull(policy);
+        this.settings = Objects.requireNonNull(settings);
         this.navigator = new Navigator(policy);
+        this.denseOccupancyMaxCells = Math.min(settings.denseOccupancyMaxCells(), DenseGridOccupancy.MAX_CELLS);
+        this.memo = policy.getClass() == IgnorePolicy.class ? memo : null;
     }
 
     @Override
@@ -31,30 +84,163 @@ public final class RobotScenarioService implements ProcessScenarioUseCase {
         GridSize gridSize = command.grid();
         Grid grid = new Grid(gridSize.maxX(), gridSize.maxY());
 
-        Occupancy occupancy = new SetOccupancy();
+        Occupancy occupancy = newOccupancy(grid);
+
+        if (runsInParallel(command.programs().size())) {
+            PreparedScenario prepared = PreparedScenario.prepare(grid, command.programs(), settings.pool());
+            return new ScenarioResult(switch (settings.mode()) {
+                case SPECULATIVE -> SpeculativeScheduler.run(prepared, navigator, occupancy, settings.pool());
+                default -> FootprintScheduler.run(grid, prepared, navigator, occupancy, settings.pool());
+            });
+        }
 
         List<FinalState> finals = new ArrayList<>(command.programs().size());
+        ScenarioRun run = open(grid, occupancy);
 
         // Process each robot program
         // For each program, create a robot, apply the instructions, and record the final state
         // Return the scenario result with all final states
         for (RobotProgram p : command.programs()) {
-            Robot robot = new Robot(
-                    new Position(p.startX(), p.startY()),
-                    Orientation.fromChar(p.orientation()),
-                    grid
-            );
-
-            navigator.apply(robot, InstructionSequence.parse(p.instructions()), occupancy, true);
-
-            finals.add(new FinalState(
-                    robot.position().x(),
-                    robot.position().y(),
-                    robot.orientation().asChar()
-            ));
+            finals.add(run.execute(p));
         }
 
         return new ScenarioResult(finals);
 
     }
+
+    @Override
+    public ScenarioInspection inspect(ScenarioCommand command, InspectionOptions options) {
+        Objects.requireNonNull(command, "command must not be null");
+        Objects.requireNonNull(options, "options must not be null");
+
+        GridSize gridSize = command.grid();
+        Grid grid = new Grid(gridSize.maxX(), gridSize.maxY());
+        Occupancy occupancy = newOccupancy(grid);
+        int robots = command.programs().size();
+
+        Coverage coverage = options.coverage() ? new Coverage(grid, denseOccupancyMaxCells) : null;
+        int[] robotCells = coverage == null ? null : new int[robots];
+        List<RobotTrace> traces = options.trace() ? new ArrayList<>(robots) : null;
+        List<FinalState> finals = new ArrayList<>(robots);
+
+        for (int i = 0; i < robots; i++) {
+            RobotProgram p = command.programs().get(i);
+            Robot robot = newRobot(grid, p);
+            InstructionSequence instructions = InstructionSequence.parse(p.instructions());
+            Trajectory trajectory = traces == null ? null : new Trajectory(instructions.size());
+            if (coverage != null) {
+                coverage.startRobot(robot.position());
+            }
+
+            StepListener listener = trajectory == null ? coverage
+                    : coverage == null ? trajectory
+                    : (outcome, x, y) -> {
+                        trajectory.onStep(outcome, x, y);
+                        coverage.onStep(outcome, x, y);
+                    };
+            if (listener == null) {
+                navigator.apply(robot, ProgramCompiler.compile(instructions), occupancy, true);
+            } else {
+                navigator.apply(robot, instructions, occupancy, true, listener);
+            }
+
+            finals.add(finalState(robot));
+            if (trajectory != null) {
+                traces.add(new RobotTrace(trajectory.size(), trajectory.toPackedBytes()));
+            }
+            if (coverage != null) {
+                robotCells[i] = coverage.robotCells();
+            }
+        }
+
+        ScenarioCoverage cleaned = coverage == null ? null : new ScenarioCoverage(robotCells,
+                coverage.coveredCells(), coverage.area(),
+                options.bitmap() && coverage.hasBitmap() ? coverage.toBitmap() : null);
+        return new ScenarioInspection(finals, traces, cleaned);
+    }
+
+    @Override
+    public ScenarioRun open(GridSize gridSize) {
+        Objects.requireNonNull(gridSize, "grid must not be null");
+        Grid grid = new Grid(gridSize.maxX(), gridSize.maxY());
+        return open(grid, newOccupancy(grid));
+    }
+
+    private ScenarioRun open(Grid grid, Occupancy occupancy) {
+        return new ScenarioRun() {
+            @Override
+            public FinalState execute(RobotProgram p) {
+                Robot robot = newRobot(grid, p);
+                InstructionSequence instructions = InstructionSequence.parse(p.instructions());
+                ProgramMemo.Key key = memo == null ? null : memo.key(grid, robot, instructions);
+                if (key == null) {
+                    return run(robot, instructions);
+                }
+
+                FinalState memoized = memo.lookup(key, occupancy);
+                if (memoized != null) {
+                    occupancy.occupy(new Position(memoized.x(), memoized.y()));
+                    return memoized;
+                }
+                CompiledProgram program = ProgramCompiler.compile(instructions);
+                Region region = program.reachableRegion(grid, robot.position(), robot.orientation());
+                boolean alone = occupancy.isFreeArea(region.minX(), region.minY(), region.maxX(), region.maxY());
+                navigator.apply(robot, program, occupancy, true);
+                FinalState result = finalState(robot);
+                if (alone) {
+                    memo.store(key, region, result);
+                }
+                return result;
+            }
+
+            @Override
+            public FinalState execute(int startX, int startY, char orientation, InstructionSequence instructions) {
+                Robot robot = new Robot(new Position(startX, startY), Orientation.fromChar(orientation), grid);
+                return run(robot, Objects.requireNonNull(instructions, "instructions must not be null"));
+            }
+
+            @Override
+            public boolean isOccupied(int x, int y) {
+                if (!grid.inside(new Position(x, y))) {
+                    throw new IllegalArgumentException("Cell (" + x + ", " + y + ") is outside the grid");
+                }
+                return !occupancy.isFree(x, y);
+            }
+
+            private FinalState run(Robot robot, InstructionSequence instructions) {
+                CompiledProgram program = ProgramCompiler.compile(instructions);
+                navigator.apply(robot, program, occupancy, true);
+
+                return finalState(robot);
+            }
+        };
+    }
+
+    /** Picks the occupancy implementation for the grid size. */
+    Occupancy newOccupancy(Grid grid) {
+        long area = ((long) grid.maxX() + 1) * ((long) grid.maxY() + 1);
+        return area <= denseOccupancyMaxCells ? new DenseGridOccupancy(grid) : new SparseLongOccupancy();
+    }
+
+    private boolean runsInParallel(int robots) {
+        return settings.mode() != ExecutionMode.SEQUENTIAL
+                && robots >= settings.parallelMinRobots()
+                && policy.getClass() == IgnorePolicy.class;
+    }
+
+    static Robot newRobot(Grid grid, RobotProgram p) {
+        return new Robot(
+                new Position(p.startX(), p.startY()),
+                Orientation.fromChar(p.orientation()),
+                grid
+        );
+    }
+
+    static FinalState finalState(Robot robot) {
+        return new FinalState(
+                robot.position().x(),
+                robot.position().y(),
+                robot.orientation().asChar()
+        );
+    }
 }
@@ -0,0 +1,57 @@
+package com.example.robot.application.service;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tuning knobs of {@link RobotScenarioService}.
+ *
+ * @param denseOccupancyMaxCells largest grid area that gets a bitset occupancy (0 disables it)
+ * @param mode                   how robots are scheduled
+ * @param parallelMinRobots      scenarios with fewer robots always run sequentially
+ * @param pool                   pool used by the parallel modes
+ */
+public record ScenarioExecutionSettings(long denseOccupancyMaxCells,
+                                        ExecutionMode mode,
+                                        int parallelMinRobots,
+                                        ForkJoinPool pool) {
+
+    /** Default area limit for the bitset occupancy: 1M cells, i.e. a 128 KB bitset. */
+    public static final long DEFAULT_DENSE_OCCUPANCY_MAX_CELLS = 1L << 20;
+
+    /** Below this many robots the fork/join overhead outweighs the parallel speedup. */
+    public static final int DEFAULT_PARALLEL_MIN_ROBOTS = 1024;
+
+    public ScenarioExecutionSettings {
+        if (denseOccupancyMaxCells < 0) {
+            throw new IllegalArgumentException("denseOccupancyMaxCells must be >= 0");
+        }
+        if (parallelMinRobots < 0) {
+            throw new IllegalArgumentException("parallelMinRobots must be >= 0");
+        }
+        Objects.requireNonNull(mode, "mode must not be null");
+        Objects.requireNonNull(pool, "pool must not be null");
+    }
+
+    /** Sequential execution with the default occupancy threshold. */
+    public static ScenarioExecutionSettings defaults() {
+        return new ScenarioExecutionSettings(DEFAULT_DENSE_OCCUPANCY_MAX_CELLS, ExecutionMode.SEQUENTIAL,
+                DEFAULT_PARALLEL_MIN_ROBOTS, ForkJoinPool.commonPool());
+    }
+
+    public ScenarioExecutionSettings withDenseOccupancyMaxCells(long cells) {
+        return new ScenarioExecutionSettings(cells, mode, parallelMinRobots, pool);
+    }
+
+    public ScenarioExecutionSettings withMode(ExecutionMode mode) {
+        return new ScenarioExecutionSettings(denseOccupancyMaxCells, mode, parallelMinRobots, pool);
+    }
+
+    public ScenarioExecutionSettings withParallelMinRobots(int robots) {
+        return new ScenarioExecutionSettings(denseOccupancyMaxCells, mode, robots, pool);
+    }
+
+    public ScenarioExecutionSettings withPool(ForkJoinPool pool) {
+        return new ScenarioExecutionSettings(denseOccupancyMaxCells, mode, parallelMinRobots, pool);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.robot.application.service;
+
+import com.example.robot.application.port.in.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs scenarios in the background and keeps their outcome in memory.
+ *
+ * <p>
+ * A job executes its robots one at a time through a {@link ScenarioRun}, publishing the
+ * number of robots done after each one, so progress can be polled while it runs. Final
+ * states are kept in primitive arrays rather than one object per robot.
+ * </p>
+ *
+ * <p>
+ * At most {@code maxActiveJobs} jobs may be queued or running; further submissions are
+ * rejected with {@link ScenarioRejectedException}. Finished jobs are evicted once they
+ * are older than {@code ttl}; eviction runs on every submit and lookup.
+ * </p>
+ */
+public final class ScenarioJobService implements ScenarioJobUseCase, AutoCloseable {
+
+    private final StreamScenarioUseCase engine;
+    private final ExecutorService executor;
+    private final int maxActiveJobs;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * @param engine        executes the robots
+     * @param executor      runs the jobs
+     * @param maxActiveJobs queued plus running jobs accepted at once
+     * @param ttl           how long a finished job stays available
+     * @param clock         time source for expiry
+     */
+    public ScenarioJobService(StreamScenarioUseCase engine, ExecutorService executor,
+                              int maxActiveJobs, Duration ttl, Clock clock) {
+        this.engine = Objects.requireNonNull(engine);
+        this.executor = Objects.requireNonNull(executor);
+        this.maxActiveJobs = maxActiveJobs;
+        this.ttl = Objects.requireNonNull(ttl);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public ScenarioJob submit(ScenarioCommand command) {
+        Objects.requireNonNull(command, "command must not be null");
+        evictExpired();
+
+        if (active.incrementAndGet() > maxActiveJobs) {
+            active.decrementAndGet();
+            throw new ScenarioRejectedException("Too many scenario jobs in progress, retry later");
+        }
+        Job job = new Job(UUID.randomUUID().toString(), command);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            active.decrementAndGet();
+            throw new ScenarioRejectedException("Scenario job executor unavailable, retry later");
+        }
+        return job.snapshot();
+    }
+
+    @Override
+    public Optional<ScenarioJob> find(String id) {
+        evictExpired();
+        Job job = jobs.get(id);
+        return job == null ? Optional.empty() : Optional.of(job.snapshot());
+    }
+
+    @Override
+    public Optional<List<FinalState>> result(String id) {
+        evictExpired();
+        Job job = jobs.get(id);
+        return job == null || job.status != JobStatus.SUCCEEDED ? Optional.empty() : Optional.of(job.finals());
+    }
+
+    /** Stops the workers; running jobs are interrupted and queued ones dropped. */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void run(Job job) {
+        try {
+            job.status = JobStatus.RUNNING;
+            ScenarioCommand command = job.command;
+            ScenarioRun run = engine.open(command.grid());
+            List<RobotProgram> programs = command.programs();
+            for (int i = 0; i < job.total; i++) {
+                FinalState f = run.execute(programs.get(i));
+                job.x[i] = f.x();
+                job.y[i] = f.y();
+                job.orientation[i] = (byte) f.orientation();
+                job.completed = i + 1;
+            }
+            job.finish(JobStatus.SUCCEEDED, null, clock.instant());
+        } catch (RuntimeException e) {
+            job.finish(JobStatus.FAILED, e.getMessage(), clock.instant());
+        } catch (Error e) {
+            job.finish(JobStatus.FAILED, "Unexpected error.", clock.instant());
+            throw e;
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    private void evictExpired() {
+        Instant cutoff = clock.instant().minus(ttl);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    /** Mutable job state: written by its worker only, read by any thread through the volatiles. */
+    private static final class Job {
+
+        final String id;
+        final int total;
+        final int[] x;
+        final int[] y;
+        final byte[] orientation;
+        volatile ScenarioCommand command; // dropped once finished
+        volatile JobStatus status = JobStatus.QUEUED;
+        volatile int completed;
+        volatile String error;
+        volatile Instant finishedAt;
+
+        Job(String id, ScenarioCommand command) {
+            this.id = id;
+            this.command = command;
+            this.total = command.programs().size();
+            this.x = new int[total];
+            this.y = new int[total];
+            this.orientation = new byte[total];
+        }
+
+        void finish(JobStatus status, String error, Instant at) {
+            this.command = null;
+            this.error = error;
+            this.finishedAt = at;
+            this.status = status;
+        }
+
+        ScenarioJob snapshot() {
+            JobStatus s = status;
+            return new ScenarioJob(id, s, completed, total, s == JobStatus.FAILED ? error : null);
+        }
+
+        List<FinalState> finals() {
+            return new AbstractList<>() {
+                @Override
+                public FinalState get(int index) {
+                    return new FinalState(x[index], y[index], (char) orientation[index]);
+                }
+
+                @Override
+                public int size() {
+                    return total;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.robot.application.service;
+
+import com.example.robot.application.port.in.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps scenarios open in memory between requests.
+ *
+ * <p>
+ * A session holds a {@link ScenarioRun}, with its grid and occupancy, plus the final
+ * states of its robots in primitive arrays. Appending robots runs only those robots on
+ * the open run, so a fleet that grows one robot at a time pays for that robot alone.
+ * Operations on one session are serialized; different sessions run concurrently.
+ * </p>
+ *
+ * <p>
+ * At most {@code maxSessions} sessions may be open; further ones are rejected with
+ * {@link ScenarioRejectedException}. A session not used for {@code idleTtl} is evicted;
+ * eviction runs on every call.
+ * </p>
+ */
+public final class ScenarioSessionService implements ScenarioSessionUseCase {
+
+    private final StreamScenarioUseCase engine;
+    private final int maxSessions;
+    private final Duration idleTtl;
+    private final Clock clock;
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger open = new AtomicInteger();
+
+    /**
+     * @param engine      executes the robots
+     * @param maxSessions sessions open at once
+     * @param idleTtl     how long an unused session stays open
+     * @param clock       time source for expiry
+     */
+    public ScenarioSessionService(StreamScenarioUseCase engine, int maxSessions, Duration idleTtl, Clock clock) {
+        this.engine = Objects.requireNonNull(engine);
+        this.maxSessions = maxSessions;
+        this.idleTtl = Objects.requireNonNull(idleTtl);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public ScenarioSession create(GridSize grid) {
+        Objects.requireNonNull(grid, "grid must not be null");
+        evictIdle();
+
+        if (open.incrementAndGet() > maxSessions) {
+            open.decrementAndGet();
+            throw new ScenarioRejectedException("Too many open scenario sessions, retry later");
+        }
+        Session session;
+        try {
+            session = new Session(UUID.randomUUID().toString(), grid, engine.open(grid), clock.instant());
+        } catch (RuntimeException e) {
+            open.decrementAndGet();
+            throw e;
+        }
+        sessions.put(session.id, session);
+        return session.snapshot();
+    }
+
+    @Override
+    public Optional<List<FinalState>> append(String id, List<RobotProgram> programs) {
+        Objects.requireNonNull(programs, "programs must not be null");
+        return touch(id).map(session -> session.append(programs));
+    }
+
+    @Override
+    public Optional<ScenarioSession> find(String id) {
+        return touch(id).map(Session::snapshot);
+    }
+
+    @Override
+    public Optional<List<FinalState>> finals(String id) {
+        return touch(id).map(Session::finals);
+    }
+
+    @Override
+    public Optional<Boolean> isOccupied(String id, int x, int y) {
+        return touch(id).map(session -> session.isOccupied(x, y));
+    }
+
+    @Override
+    public boolean close(String id) {
+        evictIdle();
+        return remove(id, sessions.get(id));
+    }
+
+    /** Looks a session up and marks it as used. */
+    private Optional<Session> touch(String id) {
+        evictIdle();
+        Session session = sessions.get(id);
+        if (session == null) return Optional.empty();
+        session.lastAccess = clock.instant();
+        return Optional.of(session);
+    }
+
+    private void evictIdle() {
+        Instant cutoff = clock.instant().minus(idleTtl);
+        for (Session session : sessions.values()) {
+            if (session.lastAccess.isBefore(cutoff)) {
+                remove(session.id, session);
+            }
+        }
+    }
+
+    private boolean remove(String id, Session session) {
+        if (session != null && sessions.remove(id, session)) {
+            open.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /** Open scenario: its run plus the final states so far, guarded by the session's monitor. */
+    private static final class Session {
+
+        final String id;
+        final GridSize grid;
+        private final ScenarioRun run;
+        private int[] x = new int[16];
+        private int[] y = new int[16];
+        private byte[] orientation = new byte[16];
+        private int robots;
+        volatile Instant lastAccess;
+
+        Session(String id, GridSize grid, ScenarioRun run, Instant now) {
+            this.id = id;
+            this.grid = grid;
+            this.run = run;
+            this.lastAccess = now;
+        }
+
+        synchronized List<FinalState> append(List<RobotProgram> programs) {
+            int from = robots;
+            for (RobotProgram program : programs) {
+                FinalState f = run.execute(program);
+                if (robots == x.length) {
+                    int capacity = 2 * robots;
+                    x = Arrays.copyOf(x, capacity);
+                    y = Arrays.copyOf(y, capacity);
+                    orientation = Arrays.copyOf(orientation, capacity);
+                }
+                x[robots] = f.x();
+                y[robots] = f.y();
+                orientation[robots] = (byte) f.orientation();
+                robots++;
+            }
+            return view(Arrays.copyOfRange(x, from, robots), Arrays.copyOfRange(y, from, robots),
+                    Arrays.copyOfRange(orientation, from, robots));
+        }
+
+        synchronized List<FinalState> finals() {
+            return view(Arrays.copyOf(x, robots), Arrays.copyOf(y, robots), Arrays.copyOf(orientation, robots));
+        }
+
+        synchronized boolean isOccupied(int cx, int cy) {
+            return run.isOccupied(cx, cy);
+        }
+
+        synchronized ScenarioSession snapshot() {
+            return new ScenarioSession(id, grid, robots);
+        }
+
+        private static List<FinalState> view(int[] x, int[] y, byte[] orientation) {
+            return new AbstractList<>() {
+                @Override
+                public FinalState get(int index) {
+                    return new FinalState(x[index], y[index], (char) orientation[index]);
+                }
+
+                @Override
+                public int size() {
+                    return x.length;
+                }
+            };
+        }
+    }
+}
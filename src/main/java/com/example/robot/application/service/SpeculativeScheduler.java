@@ -0,0 +1,65 @@
+package com.example.robot.application.service;
+
+import com.example.robot.application.port.in.FinalState;
+import com.example.robot.domain.Navigator;
+import com.example.robot.domain.Occupancy;
+import com.example.robot.domain.Position;
+import com.example.robot.domain.Robot;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * {@link ExecutionMode#SPECULATIVE} scheduler.
+ *
+ * <ol>
+ *   <li>Every robot runs concurrently on an empty floor while a {@link SpeculativeTrace}
+ *       records the cells it enters.</li>
+ *   <li>In program order, robot {@code k} is accepted if its trace enters no cell
+ *       occupied by the finals of robots {@code 0..k-1}: with nothing in the way, the real
+ *       run would take exactly the same path.</li>
+ *   <li>Otherwise robot {@code k} is re-executed against the real occupancy, which is what
+ *       {@code Navigator.apply(..., occupyFinal = true)} does in the sequential loop.</li>
+ * </ol>
+ *
+ * <p>With few collisions almost every robot is accepted and the work scales with the
+ * number of cores; each conflict costs one extra sequential run.</p>
+ */
+final class SpeculativeScheduler {
+
+    /** Segments recorded per robot before falling back to its bounding box. */
+    static final int MAX_SEGMENTS = 1 << 12;
+
+    private SpeculativeScheduler() { }
+
+    static List<FinalState> run(PreparedScenario scenario, Navigator navigator,
+                                Occupancy occupancy, ForkJoinPool pool) {
+        int n = scenario.size();
+        FinalState[] finals = new FinalState[n];
+        SpeculativeTrace[] traces = new SpeculativeTrace[n];
+
+        pool.submit(() -> IntStream.range(0, n).parallel().forEach(i -> {
+            Robot start = scenario.robot(i);
+            Robot probe = new Robot(start.position(), start.orientation(), start.grid());
+            SpeculativeTrace trace = new SpeculativeTrace(MAX_SEGMENTS);
+            navigator.apply(probe, scenario.program(i), trace, false);
+            traces[i] = trace;
+            finals[i] = RobotScenarioService.finalState(probe);
+        })).join();
+
+        for (int i = 0; i < n; i++) {
+            Robot robot = scenario.robot(i);
+            if (traces[i].touchesOccupied(occupancy)) {
+                navigator.apply(robot, scenario.program(i), occupancy, true);
+                finals[i] = scenario.finalState(i);
+            } else {
+                FinalState f = finals[i];
+                occupancy.occupy(new Position(f.x(), f.y()));
+            }
+            traces[i] = null; // release the footprint as soon as it is validated
+        }
+        return Arrays.asList(finals);
+    }
+}
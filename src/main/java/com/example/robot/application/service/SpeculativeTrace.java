@@ -0,0 +1,95 @@
+package com.example.robot.application.service;
+
+import com.example.robot.domain.Occupancy;
+import com.example.robot.domain.Position;
+
+import java.util.Arrays;
+
+/**
+ * Empty-floor occupancy that records where a robot went during a speculative run.
+ *
+ * <p>
+ * The execution kernel asks the occupancy about every cell a robot is about to
+ * enter: one {@link #isFreeArea} call per compiled advance, or one {@link #isFree}
+ * call per single move. Answering "free" to all of them reproduces an empty floor,
+ * and recording the questions gives the robot's footprint as a list of segments,
+ * one per advance rather than one per cell.
+ * </p>
+ *
+ * <p>
+ * Past {@code maxSegments} only the bounding box of the footprint is kept, which is
+ * still a sound (if coarser) footprint to validate against.
+ * </p>
+ */
+final class SpeculativeTrace implements Occupancy {
+
+    private final int maxSegments;
+    private int[] segments = new int[16];
+    private int count;
+    private boolean overflowed;
+    private int minX = Integer.MAX_VALUE;
+    private int minY = Integer.MAX_VALUE;
+    private int maxX = Integer.MIN_VALUE;
+    private int maxY = Integer.MIN_VALUE;
+
+    SpeculativeTrace(int maxSegments) {
+        this.maxSegments = maxSegments;
+    }
+
+    @Override
+    public boolean isFree(Position position) {
+        return isFree(position.x(), position.y());
+    }
+
+    @Override
+    public boolean isFree(int x, int y) {
+        return isFreeArea(x, y, x, y);
+    }
+
+    @Override
+    public boolean isFreeArea(int minX, int minY, int maxX, int maxY) {
+        this.minX = Math.min(this.minX, minX);
+        this.minY = Math.min(this.minY, minY);
+        this.maxX = Math.max(this.maxX, maxX);
+        this.maxY = Math.max(this.maxY, maxY);
+        if (overflowed) return true;
+        if (count == maxSegments) {
+            overflowed = true;
+            segments = null;
+            return true;
+        }
+        int at = count * 4;
+        if (at == segments.length) segments = Arrays.copyOf(segments, at * 2);
+        segments[at] = minX;
+        segments[at + 1] = minY;
+        segments[at + 2] = maxX;
+        segments[at + 3] = maxY;
+        count++;
+        return true;
+    }
+
+    @Override
+    public void occupy(Position position) {
+        // Speculative runs never leave anything behind
+    }
+
+    @Override
+    public boolean allowMove(Position next, Position current) {
+        return true;
+    }
+
+    /**
+     * Whether the recorded footprint enters any cell occupied in {@code occupancy}.
+     * If not, the speculative run is exactly what the robot does on that floor.
+     */
+    boolean touchesOccupied(Occupancy occupancy) {
+        if (minX > maxX) return false; // never moved
+        if (overflowed) return !occupancy.isFreeArea(minX, minY, maxX, maxY);
+        for (int at = 0, end = count * 4; at < end; at += 4) {
+            if (!occupancy.isFreeArea(segments[at], segments[at + 1], segments[at + 2], segments[at + 3])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.robot.application.service;
+
+import com.example.robot.domain.Grid;
+import com.example.robot.domain.Region;
+
+/**
+ * Coarse bitmap of the grid used to detect overlapping regions.
+ *
+ * <p>The grid is divided into square tiles of {@code 2^shift} cells per side, with
+ * the smallest shift that keeps the tile count under {@code maxTiles}. Marking and
+ * checking a region works on whole 64-tile words per row. Tiles only make the test
+ * conservative: two regions sharing a tile are reported as overlapping even if
+ * their cells do not touch.</p>
+ */
+final class TileMap {
+
+    private final int shift;
+    private final int wordsPerRow;
+    private final long[] bits;
+
+    TileMap(Grid grid, int maxTiles) {
+        int s = 0;
+        while ((((long) grid.maxX() >> s) + 1) * (((long) grid.maxY() >> s) + 1) > maxTiles) s++;
+        this.shift = s;
+        int cols = (grid.maxX() >> s) + 1;
+        int rows = (grid.maxY() >> s) + 1;
+        this.wordsPerRow = (cols + 63) >>> 6;
+        this.bits = new long[wordsPerRow * rows];
+    }
+
+    /**
+     * Marks every tile covered by the region.
+     *
+     * @return true if at least one of those tiles was already marked
+     */
+    boolean markOverlapping(Region region) {
+        int c0 = region.minX() >> shift;
+        int c1 = region.maxX() >> shift;
+        int w0 = c0 >>> 6;
+        int w1 = c1 >>> 6;
+        boolean overlap = false;
+        for (int row = region.minY() >> shift, last = region.maxY() >> shift; row <= last; row++) {
+            int base = row * wordsPerRow;
+            for (int w = w0; w <= w1; w++) {
+                long mask = -1L;
+                if (w == w0) mask &= -1L << c0;
+                if (w == w1) mask &= -1L >>> (63 - (c1 & 63));
+                long word = bits[base + w];
+                overlap |= (word & mask) != 0;
+                bits[base + w] = word | mask;
+            }
+        }
+        return overlap;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.robot.domain;
+
+/**
+ * Macro-step transition table of a {@link CompiledProgram}.
+ *
+ * <p>
+ * The ops are split into blocks of {@link #BLOCK_OPS}. For each block and each start
+ * orientation the table holds what the block does when no move is dropped: the net
+ * displacement, the excursion box of every cell it passes through (relative to the
+ * start cell, which it includes) and the net rotation. If that box, placed at the
+ * robot, lies inside the grid and holds no occupied cell, no move of the block can be
+ * refused, so the whole block is applied in one jump.
+ * </p>
+ *
+ * <p>
+ * Programs with fewer than {@link #MIN_BLOCKS} full blocks get no table: the op-by-op
+ * path runs them about as fast as the table would take to build.
+ * </p>
+ *
+ * <p>
+ * Blocks attempting more than {@link #MAX_BLOCK_MOVES} moves are marked as never
+ * jumpable; they are dominated by a few long advances that the kernel already resolves
+ * one segment at a time.
+ * </p>
+ */
+final class BlockTable {
+
+    /** Ops per block. */
+    static final int BLOCK_OPS = 16;
+    static final int BLOCK_SHIFT = 4;
+
+    /** Fewest full blocks for which a table is built. */
+    static final int MIN_BLOCKS = 4;
+
+    /** Largest number of moves a jumpable block may attempt; keeps offsets far from overflow. */
+    static final int MAX_BLOCK_MOVES = 1 << 24;
+
+    static final int DX = 0;
+    static final int DY = 1;
+    static final int MIN_X = 2;
+    static final int MIN_Y = 3;
+    static final int MAX_X = 4;
+    static final int MAX_Y = 5;
+    static final int TURN = 6;
+    static final int JUMPABLE = 7;
+    static final int STRIDE = 8;
+
+    private static final Orientation[] ORIENTATIONS = Orientation.values();
+
+    /** {@code STRIDE} ints per block and start orientation, orientation-major within a block. */
+    final int[] table;
+
+    /** Number of full blocks; the trailing ops never jump. */
+    final int blocks;
+
+    private BlockTable(int[] table, int blocks) {
+        this.table = table;
+        this.blocks = blocks;
+    }
+
+    /** The table for the ops, or {@code null} when they fill fewer than {@link #MIN_BLOCKS} blocks. */
+    static BlockTable of(int[] ops) {
+        int blocks = ops.length >>> BLOCK_SHIFT;
+        if (blocks < MIN_BLOCKS) return null;
+        int[] table = new int[blocks * 4 * STRIDE];
+        for (int b = 0; b < blocks; b++) {
+            for (int start = 0; start < 4; start++) {
+                describe(ops, b << BLOCK_SHIFT, start, table, offset(b, start));
+            }
+        }
+        return new BlockTable(table, blocks);
+    }
+
+    /** Index of the entry for a block and a start orientation. */
+    static int offset(int block, int orientation) {
+        return ((block << 2) | orientation) * STRIDE;
+    }
+
+    private static void describe(int[] ops, int from, int start, int[] table, int at) {
+        long moves = 0;
+        int o = start;
+        int x = 0;
+        int y = 0;
+        int minX = 0;
+        int minY = 0;
+        int maxX = 0;
+        int maxY = 0;
+        for (int i = from; i < from + BLOCK_OPS; i++) {
+            int count = CompiledProgram.count(ops[i]);
+            if (CompiledProgram.kind(ops[i]) == CompiledProgram.TURN) {
+                o = (o + count) & 3;
+                continue;
+            }
+            moves += count;
+            if (moves > MAX_BLOCK_MOVES) return; // JUMPABLE stays 0
+            x += ORIENTATIONS[o].dx * count;
+            y += ORIENTATIONS[o].dy * count;
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+        }
+        table[at + DX] = x;
+        table[at + DY] = y;
+        table[at + MIN_X] = minX;
+        table[at + MIN_Y] = minY;
+        table[at + MAX_X] = maxX;
+        table[at + MAX_Y] = maxY;
+        table[at + TURN] = (o - start) & 3;
+        table[at + JUMPABLE] = 1;
+    }
+}
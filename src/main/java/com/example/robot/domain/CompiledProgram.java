@@ -0,0 +1,185 @@
+package com.example.robot.domain;
+
+/**
+ * Executable form of an {@link InstructionSequence} produced by {@link ProgramCompiler}.
+ *
+ * <p>
+ * Each op is a single {@code int}: the lowest bit is the kind and the remaining
+ * bits are the count.
+ * </p>
+ * <ul>
+ *   <li>{@code TURN n} - rotate {@code n} quarter-turns clockwise ({@code 1..3})</li>
+ *   <li>{@code ADVANCE n} - attempt {@code n} consecutive moves forward ({@code n >= 1})</li>
+ * </ul>
+ *
+ * <p>
+ * Consecutive turns are folded into one net rotation and runs of {@code M} into a
+ * single advance, so execution cost is proportional to the number of direction
+ * changes rather than to the raw instruction count.
+ * </p>
+ *
+ * <p>
+ * Programs of at least {@link BlockTable#MIN_BLOCKS} blocks of {@link BlockTable#BLOCK_OPS}
+ * ops also get a {@link BlockTable}, so that runs of many short ops away from walls and
+ * robots are applied a block at a time. The table is built the first time the kernel asks
+ * for it, not at compile time.
+ * </p>
+ *
+ * <p>
+ * When the ops, apart from the first and the last, are a short pattern repeated at least
+ * {@link #MIN_REPEATS} times, the program records that pattern's period so the kernel can
+ * detect a cycle of robot states and skip the remaining repetitions.
+ * </p>
+ */
+public final class CompiledProgram {
+
+    /** Op kind: net clockwise rotation. */
+    public static final int TURN = 0;
+
+    /** Op kind: run of forward moves. */
+    public static final int ADVANCE = 1;
+
+    private final int[] ops;
+    private final int instructionCount;
+
+    /** Moves attempted facing each direction, relative to the start orientation. */
+    private final int[] relativeMoves;
+
+    /** Fewest repetitions of a pattern for the program to count as periodic. */
+    static final int MIN_REPEATS = 8;
+
+    /** Longest pattern, in ops, looked for. */
+    static final int MAX_PERIOD = 1 << 16;
+
+    /** Macro-step table once built; see {@link #blocks()}. */
+    private BlockTable blocks;
+
+    /** Ops in {@code [periodStart, periodEnd)} repeat every {@code period} ops; 0 if not periodic. */
+    private final int period;
+    private final int periodStart;
+    private final int periodEnd;
+
+    CompiledProgram(int[] ops, int instructionCount) {
+        this.ops = ops;
+        this.instructionCount = instructionCount;
+        this.relativeMoves = new int[4];
+        int o = 0;
+        for (int op : ops) {
+            if (kind(op) == TURN) o = (o + count(op)) & 3;
+            else relativeMoves[o] += count(op);
+        }
+        this.periodStart = 1;
+        this.periodEnd = ops.length - 1;
+        this.period = period(ops, periodStart, periodEnd);
+    }
+
+    /**
+     * Smallest {@code p} such that {@code ops[i] == ops[i + p]} throughout {@code [from, to)},
+     * found with the prefix function; 0 unless the pattern repeats {@link #MIN_REPEATS} times.
+     * The first and last ops are left out because folding merges them with the turns and
+     * moves around the repeated pattern.
+     */
+    private static int period(int[] ops, int from, int to) {
+        int length = to - from;
+        if (length < 2 * MIN_REPEATS) return 0;
+        int[] prefix = new int[length];
+        for (int i = 1; i < length; i++) {
+            int k = prefix[i - 1];
+            while (k > 0 && ops[from + i] != ops[from + k]) k = prefix[k - 1];
+            if (ops[from + i] == ops[from + k]) k++;
+            prefix[i] = k;
+        }
+        int p = length - prefix[length - 1];
+        return p <= MAX_PERIOD && (long) p * MIN_REPEATS <= length ? p : 0;
+    }
+
+    /** Number of ops after folding. */
+    public int size() {
+        return ops.length;
+    }
+
+    /** Number of instructions in the source sequence. */
+    public int instructionCount() {
+        return instructionCount;
+    }
+
+    /** Kind of the op at the given index ({@link #TURN} or {@link #ADVANCE}). */
+    public int kindAt(int index) {
+        return kind(ops[index]);
+    }
+
+    /** Count of the op at the given index (quarter-turns or moves). */
+    public int countAt(int index) {
+        return count(ops[index]);
+    }
+
+    /**
+     * Returns the bounding box of every cell the robot could visit when this program
+     * runs from the given pose under {@link IgnorePolicy}, whatever the occupancy.
+     *
+     * <p>Only moves change the position and each one changes it by at most one cell in
+     * the direction the robot is facing, so the box spans, per axis, the number of
+     * moves attempted facing each way. Blocked or out-of-bounds moves only make the
+     * real path smaller. The box is clipped to the grid.</p>
+     *
+     * @param grid  the grid the program runs on
+     * @param start the start position (inside the grid)
+     * @param orientation the start orientation
+     * @return the reachable region
+     */
+    public Region reachableRegion(Grid grid, Position start, Orientation orientation) {
+        long[] absolute = new long[4];
+        for (int rel = 0; rel < 4; rel++) {
+            absolute[(orientation.ordinal() + rel) & 3] = relativeMoves[rel];
+        }
+        return new Region(
+                (int) Math.max(0, start.x() - absolute[Orientation.W.ordinal()]),
+                (int) Math.max(0, start.y() - absolute[Orientation.S.ordinal()]),
+                (int) Math.min(grid.maxX(), start.x() + absolute[Orientation.E.ordinal()]),
+                (int) Math.min(grid.maxY(), start.y() + absolute[Orientation.N.ordinal()])
+        );
+    }
+
+    /**
+     * Macro-step table, built on the first call; {@code null} for programs too short to
+     * have one. Racing callers may each build it, and any of the copies will do: the table
+     * is immutable and safely published through its final fields.
+     */
+    BlockTable blocks() {
+        if (ops.length < BlockTable.MIN_BLOCKS << BlockTable.BLOCK_SHIFT) return null;
+        BlockTable table = blocks;
+        if (table == null) {
+            blocks = table = BlockTable.of(ops);
+        }
+        return table;
+    }
+
+    /** Length in ops of the repeated pattern, or 0 when the program is not periodic. */
+    int period() {
+        return period;
+    }
+
+    int periodStart() {
+        return periodStart;
+    }
+
+    int periodEnd() {
+        return periodEnd;
+    }
+
+    int opAt(int index) {
+        return ops[index];
+    }
+
+    static int op(int kind, int count) {
+        return count << 1 | kind;
+    }
+
+    static int kind(int op) {
+        return op & 1;
+    }
+
+    static int count(int op) {
+        return op >>> 1;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.robot.domain;
+
+import java.util.Objects;
+
+/**
+ * Cells cleaned during a scenario: per robot, and the union over all robots.
+ *
+ * <p>
+ * Fed step by step as a {@link StepListener}; a cell counts as cleaned when a robot
+ * starts on it or moves onto it. The union is a {@code long[]} bitset over the grid
+ * (one bit per cell, row-major) when the grid area is at most {@code denseMaxCells},
+ * and a {@link SparseLongOccupancy} hash table otherwise. Each robot's own cells go to
+ * a fresh {@link SparseLongOccupancy}, sized by its path rather than by the grid.
+ * </p>
+ *
+ * <p>Call {@link #startRobot(Position)} before each robot's run.</p>
+ */
+public final class Coverage implements StepListener {
+
+    private final long width;
+    private final long area;
+    private final long[] bits;             // dense union, or null
+    private final SparseLongOccupancy sparse; // sparse union, or null
+    private long covered;
+    private SparseLongOccupancy robot = new SparseLongOccupancy();
+
+    /**
+     * @param grid          the grid robots run on
+     * @param denseMaxCells largest grid area tracked with a bitset
+     */
+    public Coverage(Grid grid, long denseMaxCells) {
+        Objects.requireNonNull(grid, "grid must not be null");
+        this.width = (long) grid.maxX() + 1;
+        this.area = width * ((long) grid.maxY() + 1);
+        boolean dense = area <= Math.min(denseMaxCells, DenseGridOccupancy.MAX_CELLS);
+        this.bits = dense ? new long[(int) ((area + Long.SIZE - 1) >>> 6)] : null;
+        this.sparse = dense ? null : new SparseLongOccupancy();
+    }
+
+    /** Starts counting a new robot's cells, its start cell included. */
+    public void startRobot(Position start) {
+        robot = new SparseLongOccupancy();
+        visit(start.x(), start.y());
+    }
+
+    @Override
+    public void onStep(int outcome, int x, int y) {
+        if (outcome == Trajectory.MOVED) {
+            visit(x, y);
+        }
+    }
+
+    private void visit(int x, int y) {
+        robot.add(x, y);
+        if (bits != null) {
+            long bit = y * width + x;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                covered++;
+            }
+        } else if (sparse.add(x, y)) {
+            covered++;
+        }
+    }
+
+    /** Distinct cells cleaned by the current robot. */
+    public int robotCells() {
+        return robot.size();
+    }
+
+    /** Distinct cells cleaned by any robot so far. */
+    public long coveredCells() {
+        return covered;
+    }
+
+    /** Number of cells in the grid. */
+    public long area() {
+        return area;
+    }
+
+    /** Whether {@link #toBitmap()} is available: the union is a bitset that fits a byte array. */
+    public boolean hasBitmap() {
+        return bits != null && area <= (long) Integer.MAX_VALUE * Byte.SIZE;
+    }
+
+    /**
+     * The union as bytes: bit {@code y * (maxX + 1) + x}, least significant bit first.
+     *
+     * @throws IllegalStateException if the grid is too large for a bitmap
+     */
+    public byte[] toBitmap() {
+        if (!hasBitmap()) {
+            throw new IllegalStateException("Coverage of a " + area + "-cell grid is not kept as a bitmap");
+        }
+        byte[] bytes = new byte[(int) ((area + Byte.SIZE - 1) / Byte.SIZE)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (bits[i >>> 3] >>> ((i & 7) * Byte.SIZE));
+        }
+        return bytes;
+    }
+}
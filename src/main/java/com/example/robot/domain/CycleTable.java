@@ -0,0 +1,54 @@
+package com.example.robot.domain;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing table of robot states sampled while a periodic program runs:
+ * {@code (x, y, orientation, phase)} mapped to the op index where it was seen.
+ *
+ * <p>When the table fills up it is cleared and sampling starts over, so a robot that
+ * only settles into a cycle late in the program (once pinned against a wall) is still
+ * caught, with bounded memory.</p>
+ */
+final class CycleTable {
+
+    private static final int CAPACITY = 1024;
+    private static final int MAX_SAMPLES = CAPACITY / 2;
+    private static final int MASK = CAPACITY - 1;
+
+    private final long[] positions = new long[CAPACITY];
+    private final int[] states = new int[CAPACITY];  // phase << 2 | orientation
+    private final int[] indexes = new int[CAPACITY]; // op index + 1, 0 marks an empty slot
+    private int samples;
+
+    /**
+     * Records the state seen at op {@code index}.
+     *
+     * @return the op index where the same state was seen before, or {@code -1}
+     */
+    int putIfAbsent(int x, int y, int orientation, int phase, int index) {
+        if (samples == MAX_SAMPLES) {
+            Arrays.fill(indexes, 0);
+            samples = 0;
+        }
+        long position = (long) x << 32 | (y & 0xffffffffL);
+        int state = phase << 2 | orientation;
+        int slot = mix(position, state) & MASK;
+        while (indexes[slot] != 0) {
+            if (positions[slot] == position && states[slot] == state) {
+                return indexes[slot] - 1;
+            }
+            slot = (slot + 1) & MASK;
+        }
+        positions[slot] = position;
+        states[slot] = state;
+        indexes[slot] = index + 1;
+        samples++;
+        return -1;
+    }
+
+    private static int mix(long position, int state) {
+        long h = (position ^ (long) state << 48) * 0x9e3779b97f4a7c15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.robot.domain;
+
+import java.util.Objects;
+
+/**
+ * Occupancy backed by a {@code long[]} bitset with one bit per grid cell.
+ *
+ * <p>
+ * Cell {@code (x, y)} maps to bit {@code y * (maxX + 1) + x}, so every lookup is an
+ * index computation and a mask: no hashing, no boxing and no per-cell allocation.
+ * Memory is {@code area / 8} bytes regardless of how many cells are occupied, which
+ * makes it the right choice for small and medium grids.
+ * </p>
+ *
+ * <p>Cells outside the grid are always reported as free.</p>
+ */
+public final class DenseGridOccupancy implements Occupancy {
+
+    /** Largest grid area this implementation can index. */
+    public static final long MAX_CELLS = (long) Integer.MAX_VALUE * Long.SIZE;
+
+    private final int maxX;
+    private final int maxY;
+    private final long width;
+    private final long[] bits;
+
+    /**
+     * Creates an empty occupancy covering the whole grid.
+     *
+     * @param grid the grid to cover
+     * @throws IllegalArgumentException if the grid area exceeds {@link #MAX_CELLS}
+     */
+    public DenseGridOccupancy(Grid grid) {
+        Objects.requireNonNull(grid, "grid must not be null");
+        this.maxX = grid.maxX();
+        this.maxY = grid.maxY();
+        this.width = (long) maxX + 1;
+        long area = width * ((long) maxY + 1);
+        if (area > MAX_CELLS) {
+            throw new IllegalArgumentException("Grid too large for a dense occupancy: " + area + " cells");
+        }
+        this.bits = new long[(int) ((area + Long.SIZE - 1) >>> 6)];
+    }
+
+    @Override
+    public boolean isFree(Position position) {
+        Objects.requireNonNull(position);
+        return isFree(position.x(), position.y());
+    }
+
+    @Override
+    public boolean isFree(int x, int y) {
+        if (x < 0 || y < 0 || x > maxX || y > maxY) return true;
+        long bit = y * width + x;
+        return (bits[(int) (bit >>> 6)] & (1L << bit)) == 0;
+    }
+
+    /**
+     * Checks the rectangle row by row, testing up to 64 cells per word.
+     */
+    @Override
+    public boolean isFreeArea(int minX, int minY, int maxX, int maxY) {
+        int x0 = Math.max(minX, 0);
+        int y0 = Math.max(minY, 0);
+        int x1 = Math.min(maxX, this.maxX);
+        int y1 = Math.min(maxY, this.maxY);
+        for (int y = y0; y <= y1 && x0 <= x1; y++) {
+            long row = y * width;
+            if (anySet(row + x0, row + x1)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Marks a given position as occupied.
+     *
+     * @throws IllegalArgumentException if the position lies outside the grid
+     */
+    @Override
+    public void occupy(Position position) {
+        Objects.requireNonNull(position);
+        int x = position.x();
+        int y = position.y();
+        if (x < 0 || y < 0 || x > maxX || y > maxY) {
+            throw new IllegalArgumentException("Position outside the grid: " + position);
+        }
+        long bit = y * width + x;
+        bits[(int) (bit >>> 6)] |= 1L << bit;
+    }
+
+    @Override
+    public boolean allowMove(Position next, Position current) {
+        // Same rule as SetOccupancy: an occupied cell always blocks
+        return false;
+    }
+
+    /** Whether any bit in the inclusive range {@code [from, to]} is set. */
+    private boolean anySet(long from, long to) {
+        int first = (int) (from >>> 6);
+        int last = (int) (to >>> 6);
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> (63 - (int) (to & 63));
+        if (first == last) {
+            return (bits[first] & firstMask & lastMask) != 0;
+        }
+        if ((bits[first] & firstMask) != 0) return true;
+        for (int w = first + 1; w < last; w++) {
+            if (bits[w] != 0) return true;
+        }
+        return (bits[last] & lastMask) != 0;
+    }
+}
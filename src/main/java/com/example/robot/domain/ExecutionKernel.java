@@ -0,0 +1,261 @@
+package com.example.robot.domain;
+
+/**
+ * Allocation-free execution kernel for programs run under {@link IgnorePolicy}.
+ *
+ * <p>
+ * The whole program is executed on primitive locals: {@code x}, {@code y} and the
+ * orientation index (the {@link Orientation} ordinal), reading the packed instruction
+ * codes through an {@link InstructionCursor}. A {@code Position} is only created
+ * when the occupancy has to decide on a blocked move and when the final pose is
+ * written back to the robot.
+ * </p>
+ *
+ * <p>
+ * Results are identical to the step-by-step loop in {@link Navigator}: out-of-bounds
+ * moves are dropped, and a move into an occupied cell is skipped unless
+ * {@link Occupancy#allowMove(Position, Position)} permits it.
+ * </p>
+ *
+ * <p>
+ * For a {@link CompiledProgram}, an {@code ADVANCE n} is clamped to the grid edge and,
+ * when {@link Occupancy#isFreeArea} reports the segment free, applied in one jump.
+ * Otherwise the segment is walked until the first refused cell; since the occupancy
+ * does not change while a single robot runs, every remaining move of that run would
+ * target the same refused cell and is skipped at once.
+ * </p>
+ *
+ * <p>
+ * When the program has a {@link BlockTable}, each full block is first tried as one
+ * macro step: if its excursion box fits inside the grid and is free, the block's net
+ * displacement and rotation are applied at once. Near walls and robots the block falls
+ * back to the op-by-op path above.
+ * </p>
+ *
+ * <p>
+ * For a periodic program, the state {@code (x, y, orientation, op index mod period)} is
+ * sampled about once per period in a {@link CycleTable}. Since the occupancy does not
+ * change while the robot runs, a repeated state means the robot is in a cycle: every
+ * remaining full cycle is skipped arithmetically, so a pattern repeated thousands of
+ * times costs a few repetitions once the robot is pinned against a wall or a robot.
+ * </p>
+ */
+final class ExecutionKernel {
+
+    static final int L = Instruction.L.ordinal();
+    static final int R = Instruction.R.ordinal();
+
+    private static final Orientation[] ORIENTATIONS = Orientation.values();
+    private static final int[] DX = new int[ORIENTATIONS.length];
+    private static final int[] DY = new int[ORIENTATIONS.length];
+
+    static {
+        for (Orientation o : ORIENTATIONS) {
+            DX[o.ordinal()] = o.dx;
+            DY[o.ordinal()] = o.dy;
+        }
+    }
+
+    private ExecutionKernel() { }
+
+    /**
+     * Runs the program against the robot and writes the final pose back.
+     *
+     * @param robot       the robot to control
+     * @param program     the instructions to execute
+     * @param occupancy   the occupancy to respect (can be null)
+     * @param occupyFinal whether to occupy the final position
+     */
+    static void run(Robot robot, InstructionSequence program, Occupancy occupancy, boolean occupyFinal) {
+        Grid grid = robot.grid();
+        int maxX = grid.maxX();
+        int maxY = grid.maxY();
+        int x = robot.position().x();
+        int y = robot.position().y();
+        int o = robot.orientation().ordinal();
+
+        InstructionCursor cursor = program.cursor();
+        while (cursor.hasNext()) {
+            int code = cursor.next();
+            if (code == L) {
+                o = (o + 3) & 3;
+            } else if (code == R) {
+                o = (o + 1) & 3;
+            } else {
+                int nx = x + DX[o];
+                int ny = y + DY[o];
+                if (nx < 0 || ny < 0 || nx > maxX || ny > maxY) {
+                    continue;
+                }
+                if (occupancy != null && !occupancy.isFree(nx, ny)
+                        && !occupancy.allowMove(new Position(nx, ny), new Position(x, y))) {
+                    continue;
+                }
+                x = nx;
+                y = ny;
+            }
+        }
+
+        robot.place(new Position(x, y), ORIENTATIONS[o]);
+
+        if (occupancy != null && occupyFinal) {
+            occupancy.occupy(robot.position());
+        }
+    }
+
+    /**
+     * Runs the program like {@link #run(Robot, InstructionSequence, Occupancy, boolean)},
+     * reporting every instruction to the listener.
+     */
+    static void run(Robot robot, InstructionSequence program, Occupancy occupancy, boolean occupyFinal,
+                    StepListener listener) {
+        Grid grid = robot.grid();
+        int maxX = grid.maxX();
+        int maxY = grid.maxY();
+        int x = robot.position().x();
+        int y = robot.position().y();
+        int o = robot.orientation().ordinal();
+
+        InstructionCursor cursor = program.cursor();
+        while (cursor.hasNext()) {
+            int code = cursor.next();
+            if (code == L) {
+                o = (o + 3) & 3;
+                listener.onStep(Trajectory.TURN_LEFT, x, y);
+            } else if (code == R) {
+                o = (o + 1) & 3;
+                listener.onStep(Trajectory.TURN_RIGHT, x, y);
+            } else {
+                int nx = x + DX[o];
+                int ny = y + DY[o];
+                if (nx < 0 || ny < 0 || nx > maxX || ny > maxY
+                        || (occupancy != null && !occupancy.isFree(nx, ny)
+                        && !occupancy.allowMove(new Position(nx, ny), new Position(x, y)))) {
+                    listener.onStep(Trajectory.BLOCKED, x, y);
+                    continue;
+                }
+                x = nx;
+                y = ny;
+                listener.onStep(Trajectory.MOVED, x, y);
+            }
+        }
+
+        robot.place(new Position(x, y), ORIENTATIONS[o]);
+
+        if (occupancy != null && occupyFinal) {
+            occupancy.occupy(robot.position());
+        }
+    }
+
+    /**
+     * Runs a compiled program against the robot and writes the final pose back.
+     *
+     * @param robot       the robot to control
+     * @param program     the compiled program to execute
+     * @param occupancy   the occupancy to respect (can be null)
+     * @param occupyFinal whether to occupy the final position
+     */
+    static void run(Robot robot, CompiledProgram program, Occupancy occupancy, boolean occupyFinal) {
+        Grid grid = robot.grid();
+        int maxX = grid.maxX();
+        int maxY = grid.maxY();
+        int x = robot.position().x();
+        int y = robot.position().y();
+        int o = robot.orientation().ordinal();
+
+        BlockTable blocks = program.blocks();
+        int blockEnd = blocks == null ? 0 : blocks.blocks << BlockTable.BLOCK_SHIFT;
+
+        int period = program.period();
+        int periodStart = program.periodStart();
+        int periodEnd = program.periodEnd();
+        int nextSample = period > 0 ? periodStart : Integer.MAX_VALUE;
+        CycleTable seen = null;
+
+        for (int i = 0, n = program.size(); i < n; i++) {
+            if (i >= nextSample) {
+                if (i + period > periodEnd) {
+                    nextSample = Integer.MAX_VALUE;
+                } else {
+                    if (seen == null) seen = new CycleTable();
+                    int previous = seen.putIfAbsent(x, y, o, (i - periodStart) % period, i);
+                    if (previous >= 0) {
+                        // Same state and phase: ops [previous, i) leave the robot where it started
+                        int cycle = i - previous;
+                        int skip = (periodEnd - i) / cycle * cycle;
+                        nextSample = Integer.MAX_VALUE;
+                        if (skip > 0) {
+                            i += skip - 1; // the loop increment lands on i + skip
+                            continue;
+                        }
+                    } else {
+                        nextSample = i + period;
+                    }
+                }
+            }
+            if (i < blockEnd && (i & (BlockTable.BLOCK_OPS - 1)) == 0) {
+                int[] t = blocks.table;
+                int at = BlockTable.offset(i >>> BlockTable.BLOCK_SHIFT, o);
+                if (t[at + BlockTable.JUMPABLE] != 0
+                        && x + t[at + BlockTable.MIN_X] >= 0 && (long) x + t[at + BlockTable.MAX_X] <= maxX
+                        && y + t[at + BlockTable.MIN_Y] >= 0 && (long) y + t[at + BlockTable.MAX_Y] <= maxY
+                        && (occupancy == null || occupancy.isFreeArea(
+                                x + t[at + BlockTable.MIN_X], y + t[at + BlockTable.MIN_Y],
+                                x + t[at + BlockTable.MAX_X], y + t[at + BlockTable.MAX_Y]))) {
+                    x += t[at + BlockTable.DX];
+                    y += t[at + BlockTable.DY];
+                    o = (o + t[at + BlockTable.TURN]) & 3;
+                    i += BlockTable.BLOCK_OPS - 1;
+                    continue;
+                }
+            }
+            int op = program.opAt(i);
+            int count = CompiledProgram.count(op);
+            if (CompiledProgram.kind(op) == CompiledProgram.TURN) {
+                o = (o + count) & 3;
+                continue;
+            }
+
+            int reach = Math.min(count, room(o, x, y, maxX, maxY));
+            if (reach == 0) {
+                continue;
+            }
+            int dx = DX[o];
+            int dy = DY[o];
+            int tx = x + dx * reach;
+            int ty = y + dy * reach;
+            if (occupancy == null || occupancy.isFreeArea(
+                    Math.min(x + dx, tx), Math.min(y + dy, ty), Math.max(x + dx, tx), Math.max(y + dy, ty))) {
+                x = tx;
+                y = ty;
+                continue;
+            }
+            for (int step = 0; step < reach; step++) {
+                int nx = x + dx;
+                int ny = y + dy;
+                if (!occupancy.isFree(nx, ny)
+                        && !occupancy.allowMove(new Position(nx, ny), new Position(x, y))) {
+                    break;
+                }
+                x = nx;
+                y = ny;
+            }
+        }
+
+        robot.place(new Position(x, y), ORIENTATIONS[o]);
+
+        if (occupancy != null && occupyFinal) {
+            occupancy.occupy(robot.position());
+        }
+    }
+
+    /** Cells between the robot and the grid edge it is facing. */
+    static int room(int o, int x, int y, int maxX, int maxY) {
+        return switch (o) {
+            case 0 -> maxY - y;
+            case 1 -> maxX - x;
+            case 2 -> y;
+            default -> x;
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.robot.domain;
+
+/**
+ * Forward-only primitive cursor over the packed codes of an {@link InstructionSequence}.
+ *
+ * <p>Codes are the {@link Instruction} ordinals ({@code L=0, R=1, M=2}). The cursor
+ * keeps the current packed word in a field and shifts it, so reading the next
+ * instruction is a shift and a mask, with no allocation and no enum lookup.</p>
+ *
+ * <p>Not thread-safe; create one cursor per execution.</p>
+ */
+public final class InstructionCursor {
+
+    private final long[] words;
+    private final int size;
+    private int index;
+    private long current;
+
+    InstructionCursor(long[] words, int size) {
+        this.words = words;
+        this.size = size;
+    }
+
+    /** Whether there is at least one more instruction to read. */
+    public boolean hasNext() {
+        return index < size;
+    }
+
+    /**
+     * Returns the next instruction code and advances the cursor.
+     * The caller must check {@link #hasNext()} first.
+     */
+    public int next() {
+        int offset = index % InstructionSequence.CODES_PER_WORD;
+        if (offset == 0) {
+            current = words[index / InstructionSequence.CODES_PER_WORD];
+        }
+        index++;
+        int code = (int) current & 3;
+        current >>>= InstructionSequence.BITS_PER_CODE;
+        return code;
+    }
+
+    /** Number of instructions already read. */
+    public int position() {
+        return index;
+    }
+}
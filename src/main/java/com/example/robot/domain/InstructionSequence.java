@@ -1,8 +1,8 @@
 package com.example.robot.domain;
 
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -25,13 +25,32 @@ import java.util.Objects;
  * By handling raw input conversion here, the domain remains clean and the
  * behavior for instruction execution is centralized in navigation logic.
  * </p>
+ *
+ * <h2>Storage</h2>
+ * <p>
+ * Instructions are packed as 2-bit codes (the {@link Instruction} ordinal),
+ * 32 per {@code long}, so a 100M-instruction program takes about 25 MB.
+ * Execution kernels read them through {@link #cursor()} or {@link #codeAt(int)}
+ * without touching enum references; {@link #asList()} exposes the same data as a
+ * read-only {@code List<Instruction>} view.
+ * </p>
  */
 public class InstructionSequence {
 
-    private final List<Instruction> value;
+    /** Bits used by one instruction code. */
+    static final int BITS_PER_CODE = 2;
+
+    /** Instruction codes stored in one packed word. */
+    static final int CODES_PER_WORD = Long.SIZE / BITS_PER_CODE;
+
+    private static final Instruction[] INSTRUCTIONS = Instruction.values();
 
-    private InstructionSequence(List<Instruction> value) {
-        this.value = List.copyOf(value);
+    private final long[] words;
+    private final int size;
+
+    private InstructionSequence(long[] words, int size) {
+        this.words = words;
+        this.size = size;
     }
 
     /**
@@ -41,7 +60,13 @@ public class InstructionSequence {
      */
     public static InstructionSequence of(List<Instruction> list) {
         Objects.requireNonNull(list, "instructions must not be null");
-        return new InstructionSequence(list);
+        int size = list.size();
+        long[] words = new long[wordsFor(size)];
+        for (int i = 0; i < size; i++) {
+            int code = Objects.requireNonNull(list.get(i), "instruction must not be null").ordinal();
+            words[i / CODES_PER_WORD] |= (long) code << ((i % CODES_PER_WORD) * BITS_PER_CODE);
+        }
+        return new InstructionSequence(words, size);
     }
 
     /**
@@ -53,17 +78,131 @@ public class InstructionSequence {
      */
     public static InstructionSequence parse(String raw) {
         Objects.requireNonNull(raw, "raw instructions must not be null");
-        List<Instruction> list = new ArrayList<>(raw.length());
-        for (char c : raw.toCharArray()) list.add(Instruction.fromChar(c));
-        return new InstructionSequence(list);
+        int size = raw.length();
+        long[] words = new long[wordsFor(size)];
+        for (int w = 0, i = 0; w < words.length; w++) {
+            long word = 0;
+            for (int shift = 0; shift < Long.SIZE && i < size; shift += BITS_PER_CODE, i++) {
+                word |= (long) codeOf(raw.charAt(i)) << shift;
+            }
+            words[w] = word;
+        }
+        return new InstructionSequence(words, size);
     }
 
+    /**
+     * Parses instruction characters straight from a buffer, e.g. a JSON parser's text
+     * buffer, without building a {@code String} first.
+     *
+     * @param chars  buffer holding the instruction characters
+     * @param offset index of the first instruction
+     * @param length number of instructions
+     * @return a validated {@code InstructionSequence}
+     * @throws IllegalArgumentException if invalid characters are found
+     */
+    public static InstructionSequence parse(char[] chars, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+        long[] words = new long[wordsFor(length)];
+        for (int w = 0, i = offset, end = offset + length; w < words.length; w++) {
+            long word = 0;
+            for (int shift = 0; shift < Long.SIZE && i < end; shift += BITS_PER_CODE, i++) {
+                word |= (long) codeOf(chars[i]) << shift;
+            }
+            words[w] = word;
+        }
+        return new InstructionSequence(words, length);
+    }
 
+    /**
+     * Wraps instruction codes that are already packed, as produced by a binary decoder:
+     * {@value #CODES_PER_WORD} codes per word, the first instruction in the lowest bits.
+     * Bits past {@code size} are cleared.
+     *
+     * <p>The array is adopted, not copied: the caller must not modify it afterwards.</p>
+     *
+     * @param words packed codes, exactly {@code ceil(size / 32)} words
+     * @param size  number of instructions
+     * @throws IllegalArgumentException if the array length does not match the size, or a
+     *                                  code is not an {@link Instruction} ordinal
+     */
+    public static InstructionSequence ofPacked(long[] words, int size) {
+        Objects.requireNonNull(words, "words must not be null");
+        if (size < 0 || words.length != wordsFor(size)) {
+            throw new IllegalArgumentException("Packed instructions do not match size " + size);
+        }
+        int tail = size % CODES_PER_WORD;
+        if (tail != 0) {
+            words[words.length - 1] &= (1L << (tail * BITS_PER_CODE)) - 1;
+        }
+        for (int w = 0; w < words.length; w++) {
+            long invalid = words[w] & (words[w] >>> 1) & 0x5555_5555_5555_5555L; // code 3 = both bits set
+            if (invalid != 0) {
+                int index = w * CODES_PER_WORD + Long.numberOfTrailingZeros(invalid) / BITS_PER_CODE;
+                throw new IllegalArgumentException("Invalid instruction code 3 at index " + index);
+            }
+        }
+        return new InstructionSequence(words, size);
+    }
+
+    /** Number of instructions in the sequence. */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the code (the {@link Instruction} ordinal) at the given index.
+     *
+     * @throws IndexOutOfBoundsException if the index is outside the sequence
+     */
+    public int codeAt(int index) {
+        Objects.checkIndex(index, size);
+        return (int) (words[index / CODES_PER_WORD] >>> ((index % CODES_PER_WORD) * BITS_PER_CODE)) & 3;
+    }
+
+    /** Returns a new primitive cursor positioned before the first instruction. */
+    public InstructionCursor cursor() {
+        return new InstructionCursor(words, size);
+    }
 
     /**
      * Returns the internal list of instructions as an unmodifiable view.
      */
     public List<Instruction> asList() {
-        return Collections.unmodifiableList(value);
+        return new AbstractList<>() {
+            @Override
+            public Instruction get(int index) {
+                return INSTRUCTIONS[codeAt(index)];
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /** Two sequences are equal when they hold the same instructions, whatever their source. */
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof InstructionSequence other
+                && size == other.size && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(words) + size;
+    }
+
+    private static int wordsFor(int size) {
+        return (size + CODES_PER_WORD - 1) / CODES_PER_WORD;
+    }
+
+    private static int codeOf(char c) {
+        return switch (c) {
+            case 'L', 'l' -> 0;
+            case 'R', 'r' -> 1;
+            case 'M', 'm' -> 2;
+            default -> Instruction.fromChar(c).ordinal();
+        };
     }
 }
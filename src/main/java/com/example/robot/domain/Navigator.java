@@ -5,10 +5,17 @@ import java.util.Objects;
 /**
  * Domain service that applies a program (sequence of instructions) to a robot,
  * delegating out-of-bounds handling to a strategy (policy).
+ *
+ * <p>With the plain {@link IgnorePolicy} the program runs on the allocation-free
+ * {@link ExecutionKernel}; any other policy goes through the step-by-step loop so
+ * the policy sees every out-of-bounds move.</p>
  */
 public final class Navigator {
 
+    private static final Instruction[] INSTRUCTIONS = Instruction.values();
+
     private final OutOfBoundsPolicy policy;
+    private final boolean primitiveKernel;
 
     /**
      * Constructs a Navigator with the given out-of-bounds policy.
@@ -18,6 +25,7 @@ public final class Navigator {
      */
     public Navigator(OutOfBoundsPolicy policy) {
         this.policy = Objects.requireNonNull(policy);
+        this.primitiveKernel = policy.getClass() == IgnorePolicy.class;
     }
 
     /**
@@ -47,37 +55,20 @@ public final class Navigator {
         Objects.requireNonNull(robot, "robot must not be null");
         Objects.requireNonNull(program, "program must not be null");
 
+        if (primitiveKernel) {
+            ExecutionKernel.run(robot, program, occupancy, occupyFinal);
+            return;
+        }
+
         // Process each instruction in the program
         // For each instruction, update the robot's state accordingly
         // Handle out-of-bounds and occupancy as specified
-        for (Instruction ins : program.asList()) {
-            switch (ins) {
+        InstructionCursor cursor = program.cursor();
+        while (cursor.hasNext()) {
+            switch (INSTRUCTIONS[cursor.next()]) {
                 case L -> robot.turnLeft();
                 case R -> robot.turnRight();
-                case M -> {
-                    Position next = robot.peekNext();
-
-                    // Check bounds and occupancy before moving
-                    // Handle out-of-bounds according to policy
-                    if (!robot.grid().inside(next)) {
-                        policy.handle(robot, next); // p. ej., ignorar
-                        continue;
-                    }
-
-                    // Check occupancy if provided
-                    // Skip move if the next position is occupied
-                    if (occupancy != null && !occupancy.isFree(next)) {
-                        // position occupied, check if move is allowed
-                        // if not allowed, skip the move
-                        if (!occupancy.allowMove(next, robot.position())) {
-                            continue;
-                        }
-                    }
-
-                    // Move the robot to the next position
-                    // This line is reached only if the move is valid
-                    robot.moveTo(next);
-                }
+                case M -> moveForward(robot, occupancy);
             }
         }
 
@@ -89,5 +80,127 @@ public final class Navigator {
         }
     }
 
+    /**
+     * Applies a sequence of instructions like {@link #apply(Robot, InstructionSequence, Occupancy, boolean)},
+     * reporting the outcome of every instruction to the listener.
+     *
+     * <p>Every instruction is executed one at a time, so listening costs a pass over the
+     * whole program even where {@link #apply} would skip ahead.</p>
+     *
+     * @param robot       the robot to control
+     * @param program     the sequence of instructions to apply
+     * @param occupancy   the occupancy manager (can be null)
+     * @param occupyFinal whether to occupy the final position
+     * @param listener    receives every step
+     * @throws NullPointerException if robot, program or listener is null
+     */
+    public void apply(Robot robot, InstructionSequence program, Occupancy occupancy, boolean occupyFinal,
+                      StepListener listener) {
+        Objects.requireNonNull(robot, "robot must not be null");
+        Objects.requireNonNull(program, "program must not be null");
+        Objects.requireNonNull(listener, "listener must not be null");
 
+        if (primitiveKernel) {
+            ExecutionKernel.run(robot, program, occupancy, occupyFinal, listener);
+            return;
+        }
+
+        InstructionCursor cursor = program.cursor();
+        while (cursor.hasNext()) {
+            switch (INSTRUCTIONS[cursor.next()]) {
+                case L -> {
+                    robot.turnLeft();
+                    listener.onStep(Trajectory.TURN_LEFT, robot.position().x(), robot.position().y());
+                }
+                case R -> {
+                    robot.turnRight();
+                    listener.onStep(Trajectory.TURN_RIGHT, robot.position().x(), robot.position().y());
+                }
+                case M -> {
+                    Position before = robot.position();
+                    moveForward(robot, occupancy);
+                    Position after = robot.position();
+                    listener.onStep(after.equals(before) ? Trajectory.BLOCKED : Trajectory.MOVED, after.x(), after.y());
+                }
+            }
+        }
+
+        if (occupancy != null && occupyFinal) {
+            occupancy.occupy(robot.position());
+        }
+    }
+
+    /**
+     * Applies a sequence of instructions and records the outcome of every instruction.
+     *
+     * @return the robot's trajectory
+     * @see #apply(Robot, InstructionSequence, Occupancy, boolean, StepListener)
+     */
+    public Trajectory trace(Robot robot, InstructionSequence program, Occupancy occupancy, boolean occupyFinal) {
+        Trajectory trajectory = new Trajectory(program == null ? 0 : program.size());
+        apply(robot, program, occupancy, occupyFinal, trajectory);
+        return trajectory;
+    }
+
+    /**
+     * Applies a compiled program to the given robot, considering occupancy.
+     *
+     * <p>With {@link IgnorePolicy} each {@code ADVANCE n} is resolved in O(1) when the
+     * segment in front of the robot is free; other policies replay every move so the
+     * policy still sees each out-of-bounds attempt.</p>
+     *
+     * @param robot       the robot to control
+     * @param program     the compiled program to apply
+     * @param occupancy   the occupancy manager (can be null)
+     * @param occupyFinal whether to occupy the final position
+     * @throws NullPointerException if robot or program is null
+     */
+    public void apply(Robot robot, CompiledProgram program, Occupancy occupancy, boolean occupyFinal) {
+        Objects.requireNonNull(robot, "robot must not be null");
+        Objects.requireNonNull(program, "program must not be null");
+
+        if (primitiveKernel) {
+            ExecutionKernel.run(robot, program, occupancy, occupyFinal);
+            return;
+        }
+
+        for (int i = 0; i < program.size(); i++) {
+            int count = program.countAt(i);
+            if (program.kindAt(i) == CompiledProgram.TURN) {
+                for (int t = 0; t < count; t++) robot.turnRight();
+            } else {
+                for (int m = 0; m < count; m++) moveForward(robot, occupancy);
+            }
+        }
+
+        if (occupancy != null && occupyFinal) {
+            occupancy.occupy(robot.position());
+        }
+    }
+
+    /** One {@code M}: bounds go through the policy, occupied cells block unless allowed. */
+    private void moveForward(Robot robot, Occupancy occupancy) {
+        Position next = robot.peekNext();
+
+        // Check bounds and occupancy before moving
+        // Handle out-of-bounds according to policy
+        if (!robot.grid().inside(next)) {
+            policy.handle(robot, next); // p. ej., ignorar
+            return;
+        }
+
+        // Check occupancy if provided
+        // Skip move if the next position is occupied
+        if (occupancy != null && !occupancy.isFree(next)) {
+            // position occupied, check if move is allowed
+            // if not allowed, skip the move
+            if (!occupancy.allowMove(next, robot.position())) {
+                return;
+            }
+        }
+
+        // Move the robot to the next position
+        // This line is reached only if the move is valid
+        robot.moveTo(next);
+    }
 }
@@ -13,6 +13,40 @@ public interface Occupancy {
      */
     boolean isFree(Position position);
 
+    /**
+     * Primitive variant of {@link #isFree(Position)} used by the execution kernel.
+     * Implementations backed by primitive storage should override it to avoid
+     * allocating a {@code Position} per lookup.
+     *
+     * @param x the column to check
+     * @param y the row to check
+     * @return true if the cell is free, false otherwise
+     */
+    default boolean isFree(int x, int y) {
+        return isFree(new Position(x, y));
+    }
+
+    /**
+     * Checks whether every cell of the inclusive rectangle is free.
+     * Used to resolve a whole run of moves at once; implementations should
+     * override it when they can answer faster than cell by cell.
+     *
+     * @param minX the left column
+     * @param minY the bottom row
+     * @param maxX the right column
+     * @param maxY the top row
+     * @return true if no cell in the rectangle is occupied
+     */
+    default boolean isFreeArea(int minX, int minY, int maxX, int maxY) {
+        // long counters: with a bound of Integer.MAX_VALUE an int counter would wrap and never end
+        for (long y = minY; y <= maxY; y++) {
+            for (long x = minX; x <= maxX; x++) {
+                if (!isFree((int) x, (int) y)) return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Marks a given position as occupied.
      *
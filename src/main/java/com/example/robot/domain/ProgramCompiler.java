@@ -0,0 +1,67 @@
+package com.example.robot.domain;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Compiles an {@link InstructionSequence} into a {@link CompiledProgram}.
+ *
+ * <p>
+ * Two folds are applied in a single pass over the packed codes:
+ * </p>
+ * <ul>
+ *   <li>consecutive {@code L}/{@code R} collapse into their net rotation modulo 4,
+ *       and disappear entirely when they cancel out ({@code LR}, {@code LLLL})</li>
+ *   <li>consecutive {@code M} collapse into one {@code ADVANCE n}, including runs
+ *       only separated by rotations that cancel out</li>
+ * </ul>
+ */
+public final class ProgramCompiler {
+
+    /** Largest count an op can hold; longer runs are split. */
+    static final int MAX_COUNT = Integer.MAX_VALUE >>> 1;
+
+    private ProgramCompiler() { }
+
+    /**
+     * Compiles the sequence.
+     *
+     * @param program the instructions to compile (non-null)
+     * @return the folded program
+     */
+    public static CompiledProgram compile(InstructionSequence program) {
+        Objects.requireNonNull(program, "program must not be null");
+
+        int[] ops = new int[Math.min(program.size(), 16)];
+        int size = 0;
+        int turn = 0;
+        int run = 0;
+
+        InstructionCursor cursor = program.cursor();
+        while (cursor.hasNext()) {
+            int code = cursor.next();
+            if (code == ExecutionKernel.L || code == ExecutionKernel.R) {
+                turn = (turn + (code == ExecutionKernel.R ? 1 : 3)) & 3;
+                continue;
+            }
+            // A run only ends on a net rotation, so "MLRM" still folds into ADVANCE 2
+            if (turn != 0 || run == MAX_COUNT) {
+                if (run > 0) ops = append(ops, size++, CompiledProgram.op(CompiledProgram.ADVANCE, run));
+                if (turn != 0) ops = append(ops, size++, CompiledProgram.op(CompiledProgram.TURN, turn));
+                turn = 0;
+                run = 0;
+            }
+            run++;
+        }
+        if (run > 0) ops = append(ops, size++, CompiledProgram.op(CompiledProgram.ADVANCE, run));
+        if (turn != 0) ops = append(ops, size++, CompiledProgram.op(CompiledProgram.TURN, turn));
+
+        return new CompiledProgram(Arrays.copyOf(ops, size), program.size());
+    }
+
+    private static int[] append(int[] ops, int index, int op) {
+        if (index == ops.length) ops = Arrays.copyOf(ops, Math.max(16, ops.length * 2));
+        ops[index] = op;
+        return ops;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.robot.domain;
+
+/**
+ * Inclusive rectangle of grid cells, from ({@code minX}, {@code minY}) to
+ * ({@code maxX}, {@code maxY}).
+ *
+ * <p>Used to describe where a robot can possibly go, so callers can decide
+ * with one rectangle test whether other robots could interfere with it.</p>
+ */
+public record Region(int minX, int minY, int maxX, int maxY) {
+
+    public Region {
+        if (minX > maxX || minY > maxY) {
+            throw new IllegalArgumentException("Region bounds are inverted");
+        }
+    }
+
+    /** Whether the cell lies inside the region. */
+    public boolean contains(int x, int y) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY;
+    }
+
+    /** Whether both regions share at least one cell. */
+    public boolean intersects(Region other) {
+        return minX <= other.maxX && other.minX <= maxX && minY <= other.maxY && other.minY <= maxY;
+    }
+}
@@ -46,6 +46,12 @@ public final class Robot {
     /** Move to a given position (assumes caller enforces policies). */
     public void moveTo(Position next) { this.position = next; }
 
+    /** Set the whole pose at once (used by kernels that track state in primitives). */
+    void place(Position position, Orientation orientation) {
+        this.position = position;
+        this.orientation = orientation;
+    }
+
 
     public Robot(Position position, Orientation orientation, Grid grid) {
         this.position = Objects.requireNonNull(position, "start must not be null");
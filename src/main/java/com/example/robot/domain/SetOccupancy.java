@@ -8,6 +8,8 @@ import java.util.Set;
 
 /**
  * Implementation of the Occupancy interface using a Set to track occupied positions.
+ * Scenario runs and sessions use {@link DenseGridOccupancy} or {@link SparseLongOccupancy}
+ * instead; this one is kept as the plain reference for tests and benchmarks.
  */
 public class SetOccupancy implements Occupancy{
 
@@ -49,6 +51,21 @@ public class SetOccupancy implements Occupancy{
         occupiedPositions.add(Objects.requireNonNull(position));
     }
 
+    /**
+     * Scans whichever is smaller: the cells of the rectangle or the occupied set.
+     */
+    @Override
+    public boolean isFreeArea(int minX, int minY, int maxX, int maxY) {
+        long area = ((long) maxX - minX + 1) * ((long) maxY - minY + 1);
+        if (area <= occupiedPositions.size()) {
+            return Occupancy.super.isFreeArea(minX, minY, maxX, maxY);
+        }
+        for (Position p : occupiedPositions) {
+            if (p.x() >= minX && p.x() <= maxX && p.y() >= minY && p.y() <= maxY) return false;
+        }
+        return true;
+    }
+
     @Override
     public boolean allowMove(Position next, Position current) {
         // A move is allowed if the next position is free
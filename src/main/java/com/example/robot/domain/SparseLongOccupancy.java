@@ -0,0 +1,161 @@
+package com.example.robot.domain;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Occupancy for huge, sparsely populated grids.
+ *
+ * <p>
+ * Each occupied cell is packed into a single {@code long} key
+ * ({@code x} in the high 32 bits, {@code y} in the low 32 bits) and stored in a
+ * primitive open-addressing hash table with linear probing. There is no boxing and
+ * no per-entry node: memory is the {@code long[]} table alone, between 10.7 and 21.3
+ * bytes per occupied cell at the 0.75 load factor, and independent of the grid area.
+ * </p>
+ *
+ * <p>Not thread-safe, like the other occupancy implementations.</p>
+ */
+public final class SparseLongOccupancy implements Occupancy {
+
+    /** Marks an empty slot; the cell it would encode is tracked by {@link #hasEmptyKeyCell}. */
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int size;
+    private int resizeAt;
+    private boolean hasEmptyKeyCell;
+
+    public SparseLongOccupancy() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates a table sized for the expected number of occupied cells.
+     *
+     * @param expectedCells how many cells are expected to be occupied
+     */
+    public SparseLongOccupancy(int expectedCells) {
+        if (expectedCells < 0) {
+            throw new IllegalArgumentException("expectedCells must be >= 0");
+        }
+        int capacity = MIN_CAPACITY;
+        while (capacity * 3L / 4 < expectedCells) capacity <<= 1;
+        allocate(capacity);
+    }
+
+    @Override
+    public boolean isFree(Position position) {
+        Objects.requireNonNull(position);
+        return isFree(position.x(), position.y());
+    }
+
+    @Override
+    public boolean isFree(int x, int y) {
+        return !contains(x, y);
+    }
+
+    /**
+     * Scans whichever is smaller: the cells of the rectangle or the table.
+     */
+    @Override
+    public boolean isFreeArea(int minX, int minY, int maxX, int maxY) {
+        long area = ((long) maxX - minX + 1) * ((long) maxY - minY + 1);
+        if (area <= size) {
+            return Occupancy.super.isFreeArea(minX, minY, maxX, maxY);
+        }
+        if (hasEmptyKeyCell && inside(EMPTY, minX, minY, maxX, maxY)) return false;
+        for (long key : keys) {
+            if (key != EMPTY && inside(key, minX, minY, maxX, maxY)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void occupy(Position position) {
+        Objects.requireNonNull(position);
+        add(position.x(), position.y());
+    }
+
+    @Override
+    public boolean allowMove(Position next, Position current) {
+        // Same rule as SetOccupancy: an occupied cell always blocks
+        return false;
+    }
+
+    /** Whether the cell is occupied. */
+    public boolean contains(int x, int y) {
+        long key = key(x, y);
+        if (key == EMPTY) return hasEmptyKeyCell;
+        int mask = keys.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) return true;
+            if (k == EMPTY) return false;
+        }
+    }
+
+    /**
+     * Marks the cell as occupied.
+     *
+     * @return true if the cell was free before
+     */
+    public boolean add(int x, int y) {
+        long key = key(x, y);
+        if (key == EMPTY) {
+            if (hasEmptyKeyCell) return false;
+            hasEmptyKeyCell = true;
+            size++;
+            return true;
+        }
+        int mask = keys.length - 1;
+        int i = slot(key, mask);
+        for (long k; (k = keys[i]) != EMPTY; i = (i + 1) & mask) {
+            if (k == key) return false;
+        }
+        keys[i] = key;
+        if (++size >= resizeAt) grow();
+        return true;
+    }
+
+    /** Number of occupied cells. */
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] old = keys;
+        allocate(old.length << 1);
+        int mask = keys.length - 1;
+        for (long key : old) {
+            if (key == EMPTY) continue;
+            int i = slot(key, mask);
+            while (keys[i] != EMPTY) i = (i + 1) & mask;
+            keys[i] = key;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        resizeAt = (int) (capacity * 3L / 4);
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static boolean inside(long key, int minX, int minY, int maxX, int maxY) {
+        int x = (int) (key >> 32);
+        int y = (int) key;
+        return x >= minX && x <= maxX && y >= minY && y <= maxY;
+    }
+
+    /** Fibonacci hashing: spreads neighbouring cells over the whole table. */
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.robot.domain;
+
+/**
+ * Receives every step of a robot's run, as it happens.
+ *
+ * <p>Called once per instruction with primitive values only, so listeners such as
+ * {@link Trajectory} and {@link Coverage} can record a run without any allocation per
+ * step.</p>
+ */
+@FunctionalInterface
+public interface StepListener {
+
+    /**
+     * @param outcome what the instruction did: {@link Trajectory#TURN_LEFT},
+     *                {@link Trajectory#TURN_RIGHT}, {@link Trajectory#MOVED} or
+     *                {@link Trajectory#BLOCKED}
+     * @param x       the robot's column after the step
+     * @param y       the robot's row after the step
+     */
+    void onStep(int outcome, int x, int y);
+}
@@ -0,0 +1,70 @@
+package com.example.robot.domain;
+
+import java.util.Arrays;
+
+/**
+ * Step-by-step record of a robot's run, one 2-bit code per instruction.
+ *
+ * <ul>
+ *   <li>{@link #TURN_LEFT} and {@link #TURN_RIGHT} - the robot turned</li>
+ *   <li>{@link #MOVED} - the robot advanced one cell</li>
+ *   <li>{@link #BLOCKED} - the move was refused, by the grid edge or by another robot</li>
+ * </ul>
+ *
+ * <p>
+ * Together with the start pose this is enough to rebuild every cell the robot visited.
+ * Codes are packed four per byte, the first one in the lowest bits, so a million-step
+ * trajectory takes 250 KB.
+ * </p>
+ */
+public final class Trajectory implements StepListener {
+
+    public static final int TURN_LEFT = 0;
+    public static final int TURN_RIGHT = 1;
+    public static final int MOVED = 2;
+    public static final int BLOCKED = 3;
+
+    private static final int CODES_PER_BYTE = 4;
+
+    private byte[] packed;
+    private int size;
+
+    /**
+     * @param expectedSteps initial capacity, in steps
+     */
+    public Trajectory(int expectedSteps) {
+        this.packed = new byte[(expectedSteps + CODES_PER_BYTE - 1) / CODES_PER_BYTE];
+    }
+
+    @Override
+    public void onStep(int outcome, int x, int y) {
+        append(outcome);
+    }
+
+    void append(int code) {
+        int index = size / CODES_PER_BYTE;
+        if (index == packed.length) {
+            packed = Arrays.copyOf(packed, Math.max(16, 2 * packed.length));
+        }
+        packed[index] |= (byte) (code << (2 * (size % CODES_PER_BYTE)));
+        size++;
+    }
+
+    /** Number of recorded steps. */
+    public int size() {
+        return size;
+    }
+
+    /** Code of the step at the given index. */
+    public int codeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return (packed[index / CODES_PER_BYTE] >>> (2 * (index % CODES_PER_BYTE))) & 3;
+    }
+
+    /** The packed codes, four per byte, first step in the lowest bits. */
+    public byte[] toPackedBytes() {
+        return Arrays.copyOf(packed, (size + CODES_PER_BYTE - 1) / CODES_PER_BYTE);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.robot.infrastructure.batch;
+
+import com.example.robot.application.port.in.FinalState;
+import com.example.robot.application.port.in.RobotProgram;
+import com.example.robot.application.port.in.ScenarioRun;
+import com.example.robot.application.port.in.StreamScenarioUseCase;
+import com.example.robot.infrastructure.parserRaw.MappedScenarioReader;
+import org.springframework.boot.CommandLineRunner;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs a raw scenario file from local disk at startup and writes one {@code "x y O"}
+ * line per robot, to a file or to standard output.
+ *
+ * <p>The input is memory-mapped by {@link MappedScenarioReader} and every robot is
+ * executed as soon as it has been read, so files of any size run in bounded memory.</p>
+ */
+public class ScenarioBatchRunner implements CommandLineRunner {
+
+    private final StreamScenarioUseCase useCase;
+    private final Path input;
+    private final Path output;
+
+    /**
+     * @param useCase the use case running the robots
+     * @param input   the scenario file
+     * @param output  the result file, or {@code null} for standard output
+     */
+    public ScenarioBatchRunner(StreamScenarioUseCase useCase, Path input, Path output) {
+        this.useCase = useCase;
+        this.input = input;
+        this.output = output;
+    }
+
+    @Override
+    public void run(String... args) throws IOException {
+        try (MappedScenarioReader reader = new MappedScenarioReader(input);
+             Writer out = open()) {
+            ScenarioRun run = useCase.open(reader.readGrid());
+            for (RobotProgram p = reader.next(); p != null; p = reader.next()) {
+                FinalState f = run.execute(p);
+                out.write(Integer.toString(f.x()));
+                out.write(' ');
+                out.write(Integer.toString(f.y()));
+                out.write(' ');
+                out.write(f.orientation());
+                out.write('\n');
+            }
+        }
+    }
+
+    private Writer open() throws IOException {
+        if (output == null) {
+            // System.out stays open once the batch is done
+            return new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)) {
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+        }
+        return Files.newBufferedWriter(output, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.robot.infrastructure.codec;
+
+import com.example.robot.application.port.in.FinalState;
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.application.port.in.RobotProgram;
+import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.domain.InstructionSequence;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact binary format for scenarios and results ({@value #MEDIA_TYPE}).
+ *
+ * <p>All integers are unsigned LEB128 varints. Orientations are 2-bit codes
+ * ({@code N=0, E=1, S=2, W=3}) and instructions are 2-bit codes ({@code L=0, R=1, M=2}),
+ * four per byte with the first instruction in the lowest bits.</p>
+ *
+ * <pre>
+ * scenario := maxX maxY robotCount robot*
+ * robot    := x y (instructionCount &lt;&lt; 2 | orientation) packedInstructions
+ * results  := robotCount (x (y &lt;&lt; 2 | orientation))*
+ * </pre>
+ *
+ * <p>
+ * Packed instruction bytes are decoded straight into the words of an
+ * {@link InstructionSequence}, which the execution kernel runs without ever seeing
+ * characters. Malformed input is reported as {@link IllegalArgumentException}.
+ * </p>
+ *
+ * <p>
+ * Decoded scenarios are held to the rules of the JSON {@code ScenarioRequest}, with the
+ * same messages: at least one robot, at least one instruction per robot, and no bytes
+ * after the last robot.
+ * </p>
+ */
+public final class BinaryScenarioCodec {
+
+    public static final String MEDIA_TYPE = "application/x-robot-scenario";
+
+    private static final String ORIENTATIONS = "NESW";
+    private static final String INSTRUCTIONS = "LRM";
+    private static final int CODES_PER_BYTE = 4;
+
+    private BinaryScenarioCodec() { }
+
+    /** One decoded robot, ready to execute. */
+    public record Robot(int x, int y, char orientation, InstructionSequence instructions) { }
+
+    /** Streaming decoder: {@link #grid()} and {@link #robots()} first, then {@link #next()} per robot. */
+    public static final class Decoder {
+
+        private final InputStream in;
+        private final byte[] buffer = new byte[8192];
+        private int position;
+        private int limit;
+        private GridSize grid;
+        private int robots;
+        private int decoded;
+
+        public Decoder(InputStream in) {
+            this.in = in;
+        }
+
+        /** Reads the scenario header; must be called before {@link #next()}. */
+        public GridSize grid() {
+            if (grid == null) {
+                int maxX = readInt("maxX");
+                int maxY = readInt("maxY");
+                robots = readInt("robot count");
+                if (robots == 0) throw new IllegalArgumentException("programs: size must be at least 1");
+                grid = new GridSize(maxX, maxY);
+            }
+            return grid;
+        }
+
+        /** Number of robots announced by the header. */
+        public int robots() {
+            grid();
+            return robots;
+        }
+
+        /** Whether more robots remain to be decoded. */
+        public boolean hasNext() {
+            return decoded < robots();
+        }
+
+        /** Decodes the next robot; after the last one, the input must be exhausted. */
+        public Robot next() {
+            if (!hasNext()) throw new IllegalArgumentException("No more robots in binary scenario");
+            String path = "programs[" + decoded + "]";
+            int x = readInt(path + ".startX");
+            int y = readInt(path + ".startY");
+            long header = readVarint();
+            long count = header >>> 2;
+            if (count > Integer.MAX_VALUE) throw new IllegalArgumentException("Invalid instruction count: " + count);
+            if (count == 0) throw new IllegalArgumentException(path + ".instructions: must not be blank");
+            char orientation = ORIENTATIONS.charAt((int) (header & 3));
+
+            int size = (int) count;
+            int wordCount = (int) ((size + 31L) / 32);
+            int bytes = (int) ((size + (long) CODES_PER_BYTE - 1) / CODES_PER_BYTE);
+            // grown as bytes arrive, so a forged count cannot allocate more than the body holds
+            long[] words = new long[Math.min(wordCount, 1024)];
+            for (int b = 0; b < bytes; b++) {
+                if (b >>> 3 == words.length) {
+                    words = Arrays.copyOf(words, (int) Math.min(wordCount, 2L * words.length));
+                }
+                words[b >>> 3] |= (long) readByte() << ((b & 7) * Byte.SIZE);
+            }
+            InstructionSequence instructions;
+            try {
+                instructions = InstructionSequence.ofPacked(words, size);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(path + ".instructions: instructions must contain only L,R,M", e);
+            }
+            if (++decoded == robots && !atEnd()) {
+                throw new IllegalArgumentException("Unexpected content after the scenario");
+            }
+            return new Robot(x, y, orientation, instructions);
+        }
+
+        private boolean atEnd() {
+            if (position < limit) return false;
+            try {
+                return in.read() < 0;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private int readInt(String name) {
+            long value = readVarint();
+            if (value > Integer.MAX_VALUE) throw new IllegalArgumentException("Invalid integer for " + name + ": " + value);
+            return (int) value;
+        }
+
+        private long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7f) << shift;
+                if (b < 0x80) return value;
+            }
+            throw new IllegalArgumentException("Invalid varint in binary scenario");
+        }
+
+        private int readByte() {
+            if (position == limit) {
+                try {
+                    limit = in.readNBytes(buffer, 0, buffer.length);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                position = 0;
+                if (limit == 0) throw new IllegalArgumentException("Truncated binary scenario");
+            }
+            return buffer[position++] & 0xff;
+        }
+    }
+
+    /** Encodes a whole scenario; instruction strings must only hold {@code L}, {@code R} and {@code M}. */
+    public static byte[] encode(ScenarioCommand command) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarint(out, command.grid().maxX());
+        writeVarint(out, command.grid().maxY());
+        writeVarint(out, command.programs().size());
+        for (RobotProgram p : command.programs()) {
+            String instructions = p.instructions();
+            writeVarint(out, p.startX());
+            writeVarint(out, p.startY());
+            writeVarint(out, (long) instructions.length() << 2 | code(ORIENTATIONS, p.orientation()));
+            for (int i = 0; i < instructions.length(); i += CODES_PER_BYTE) {
+                int packed = 0;
+                for (int k = 0; k < CODES_PER_BYTE && i + k < instructions.length(); k++) {
+                    packed |= code(INSTRUCTIONS, instructions.charAt(i + k)) << (2 * k);
+                }
+                out.write(packed);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /** Writes the results header. */
+    public static void writeResultCount(OutputStream out, int robots) {
+        writeVarint(out, robots);
+    }
+
+    /** Writes one robot's final state. */
+    public static void writeResult(OutputStream out, FinalState state) {
+        writeVarint(out, state.x());
+        writeVarint(out, (long) state.y() << 2 | code(ORIENTATIONS, state.orientation()));
+    }
+
+    /** Decodes a whole results message. */
+    public static List<FinalState> decodeResults(InputStream in) {
+        Decoder decoder = new Decoder(in);
+        int count = decoder.readInt("robot count");
+        List<FinalState> finals = new ArrayList<>(Math.min(count, 1 << 16));
+        for (int i = 0; i < count; i++) {
+            int x = decoder.readInt("x");
+            long yo = decoder.readVarint();
+            finals.add(new FinalState(x, (int) (yo >>> 2), ORIENTATIONS.charAt((int) (yo & 3))));
+        }
+        return finals;
+    }
+
+    private static int code(String alphabet, char c) {
+        int code = alphabet.indexOf(Character.toUpperCase(c));
+        if (code < 0) throw new IllegalArgumentException("Cannot encode '" + c + "'");
+        return code;
+    }
+
+    private static void writeVarint(OutputStream out, long value) {
+        if (value < 0) throw new IllegalArgumentException("Cannot encode negative value: " + value);
+        try {
+            while (value >= 0x80) {
+                out.write((int) (value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            out.write((int) value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
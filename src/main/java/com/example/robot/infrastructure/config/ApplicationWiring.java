@@ -1,11 +1,35 @@
 package com.example.robot.infrastructure.config;
 
-import com.example.robot.application.port.in.ProcessScenarioUseCase;
+import com.example.robot.application.service.BoundedScenarioUseCase;
+import com.example.robot.application.service.CachingScenarioUseCase;
+import com.example.robot.application.service.ExecutionMode;
+import com.example.robot.application.service.ProgramMemo;
+import com.example.robot.application.service.ReactiveScenarioService;
 import com.example.robot.application.service.RobotScenarioService;
+import com.example.robot.application.service.ScenarioExecutionSettings;
+import com.example.robot.application.service.ScenarioJobService;
+import com.example.robot.application.service.ScenarioSessionService;
 import com.example.robot.domain.IgnorePolicy;
 import com.example.robot.domain.OutOfBoundsPolicy;
+import com.example.robot.infrastructure.batch.ScenarioBatchRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class ApplicationWiring {
@@ -15,8 +39,110 @@ public class ApplicationWiring {
         return new IgnorePolicy();
     }
 
+    // Pool for the parallel execution modes; 0 shares the JVM common pool
+    @Bean
+    public ForkJoinPool scenarioPool(@Value("${robot.execution.parallelism:0}") int parallelism) {
+        return parallelism > 0 ? new ForkJoinPool(parallelism) : ForkJoinPool.commonPool();
+    }
+
+    @Bean
+    public ScenarioExecutionSettings scenarioExecutionSettings(
+            ForkJoinPool scenarioPool,
+            @Value("${robot.occupancy.dense-max-cells:" + ScenarioExecutionSettings.DEFAULT_DENSE_OCCUPANCY_MAX_CELLS + "}")
+            long denseOccupancyMaxCells,
+            @Value("${robot.execution.mode:sequential}") String mode,
+            @Value("${robot.execution.parallel-min-robots:" + ScenarioExecutionSettings.DEFAULT_PARALLEL_MIN_ROBOTS + "}")
+            int parallelMinRobots) {
+        return new ScenarioExecutionSettings(
+                denseOccupancyMaxCells,
+                ExecutionMode.valueOf(mode.trim().toUpperCase(Locale.ROOT)),
+                parallelMinRobots,
+                scenarioPool
+        );
+    }
+
+    // Serves requests through the admission control below; jobs, sessions and the batch runner use it directly
+    // Single-robot outcomes on free regions are memoized across scenarios (max-entries 0 disables it)
+    @Bean
+    public RobotScenarioService robotScenarioService(
+            OutOfBoundsPolicy policy,
+            ScenarioExecutionSettings settings,
+            @Value("${robot.memo.max-entries:4096}") int memoMaxEntries,
+            @Value("${robot.memo.max-bytes:16MB}") DataSize memoMaxBytes,
+            @Value("${robot.memo.min-instructions:" + ProgramMemo.DEFAULT_MIN_INSTRUCTIONS + "}") int memoMinInstructions) {
+        ProgramMemo memo = memoMaxEntries > 0
+                ? new ProgramMemo(memoMaxEntries, memoMaxBytes.toBytes(), memoMinInstructions)
+                : null;
+        return new RobotScenarioService(policy, settings, memo);
+    }
+
+    // Large scenarios run on a dedicated pool: fixed size, bounded queue, rejects when full
+    // Streamed runs are admitted here too, once, when they are opened
+    @Bean
+    public BoundedScenarioUseCase boundedScenarioUseCase(
+            RobotScenarioService robotScenarioService,
+            @Value("${robot.execution.workers:0}") int workers,
+            @Value("${robot.execution.queue-capacity:64}") int queueCapacity,
+            @Value("${robot.execution.inline-max-instructions:100000}") long inlineMaxInstructions) {
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        ThreadFactory factory = Thread.ofPlatform().name("scenario-", 0).daemon().factory();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), factory, new ThreadPoolExecutor.AbortPolicy());
+        return new BoundedScenarioUseCase(robotScenarioService, pool, inlineMaxInstructions);
+    }
+
+    // Repeated scenarios are answered from an LRU result cache before reaching the pool
+    @Bean
+    @Primary
+    public CachingScenarioUseCase processScenarioUseCase(
+            BoundedScenarioUseCase boundedScenarioUseCase,
+            @Value("${robot.cache.max-entries:1024}") int maxEntries,
+            @Value("${robot.cache.max-bytes:64MB}") DataSize maxBytes,
+            @Value("${robot.cache.max-entry-bytes:1MB}") DataSize maxEntryBytes) {
+        return new CachingScenarioUseCase(boundedScenarioUseCase, maxEntries, maxBytes.toBytes(), maxEntryBytes.toBytes());
+    }
+
+    // Scenarios of /execute-batch run on virtual threads: never on scenarioPool, whose workers the parallel modes join on
+    @Bean(destroyMethod = "close")
+    public ExecutorService scenarioBatchExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("scenario-batch-", 0).factory());
+    }
+
+    // Robots pushed as a Flow.Publisher, results published with back-pressure
+    @Bean
+    public ReactiveScenarioService reactiveScenarioService(BoundedScenarioUseCase boundedScenarioUseCase) {
+        return new ReactiveScenarioService(boundedScenarioUseCase);
+    }
+
+    // Background jobs: robot.jobs.workers threads, at most robot.jobs.max-active queued or running
+    // They run on their own workers, so an accepted job is never refused halfway by the pool above
+    @Bean
+    public ScenarioJobService scenarioJobService(
+            RobotScenarioService robotScenarioService,
+            @Value("${robot.jobs.workers:1}") int workers,
+            @Value("${robot.jobs.max-active:16}") int maxActive,
+            @Value("${robot.jobs.ttl:15m}") Duration ttl) {
+        ThreadFactory factory = Thread.ofPlatform().name("scenario-job-", 0).daemon().factory();
+        return new ScenarioJobService(robotScenarioService, Executors.newFixedThreadPool(workers, factory),
+                maxActive, ttl, Clock.systemUTC());
+    }
+
+    // Sessions kept open between requests: at most robot.sessions.max-active, closed after robot.sessions.idle-ttl unused
+    @Bean
+    public ScenarioSessionService scenarioSessionService(
+            RobotScenarioService robotScenarioService,
+            @Value("${robot.sessions.max-active:64}") int maxActive,
+            @Value("${robot.sessions.idle-ttl:10m}") Duration idleTtl) {
+        return new ScenarioSessionService(robotScenarioService, maxActive, idleTtl, Clock.systemUTC());
+    }
+
+    // Batch run of a scenario file at startup: --robot.batch.input=<file> [--robot.batch.output=<file>]
     @Bean
-    public ProcessScenarioUseCase processScenarioUseCase(OutOfBoundsPolicy policy) {
-        return new RobotScenarioService(policy);
+    @ConditionalOnProperty("robot.batch.input")
+    public ScenarioBatchRunner scenarioBatchRunner(
+            RobotScenarioService robotScenarioService,
+            @Value("${robot.batch.input}") String input,
+            @Value("${robot.batch.output:}") String output) {
+        return new ScenarioBatchRunner(robotScenarioService, Path.of(input), output.isBlank() ? null : Path.of(output));
     }
 }
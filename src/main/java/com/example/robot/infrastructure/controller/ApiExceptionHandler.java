@@ -1,9 +1,13 @@
 package com.example.robot.infrastructure.controller;
 
+import com.example.robot.application.port.in.ScenarioRejectedException;
 import com.example.robot.domain.exception.DomainException;
 import com.example.robot.infrastructure.dto.ErrorResponse;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -11,18 +15,22 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @RestControllerAdvice
 public class ApiExceptionHandler {
 
+    // Todas las respuestas de error son JSON, aunque el cliente pidiera otro formato (NDJSON, texto, binario)
+
     // 400: JSON malformado / tipos incorrectos
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponse> handleBadJson(HttpMessageNotReadableException ex, WebRequest req) {
-        return ResponseEntity.badRequest().body(
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(
                 new ErrorResponse(
                         "bad_request",
                         "Request body is invalid or unreadable.",
@@ -39,7 +47,7 @@ public class ApiExceptionHandler {
         List<Map<String, String>> details = ex.getBindingResult().getFieldErrors().stream()
                 .map(this::fieldErrorToMap)
                 .toList();
-        return ResponseEntity.badRequest().body(
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(
                 new ErrorResponse(
                         "validation_error",
                         "Some fields are invalid.",
@@ -56,7 +64,7 @@ public class ApiExceptionHandler {
         List<Map<String, String>> details = ex.getConstraintViolations().stream()
                 .map(v -> Map.of("field", v.getPropertyPath().toString(), "message", v.getMessage()))
                 .toList();
-        return ResponseEntity.badRequest().body(
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(
                 new ErrorResponse(
                         "validation_error",
                         "Some parameters are invalid.",
@@ -70,7 +78,7 @@ public class ApiExceptionHandler {
     // 422: reglas del dominio (negocio)
     @ExceptionHandler(DomainException.class)
     public ResponseEntity<ErrorResponse> handleDomain(DomainException ex, WebRequest req) {
-        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).contentType(MediaType.APPLICATION_JSON).body(
                 new ErrorResponse(
                         "domain_error",
                         ex.getMessage(),
@@ -81,10 +89,27 @@ public class ApiExceptionHandler {
         );
     }
 
+    // 429: sin capacidad de ejecución libre (admission control)
+    @ExceptionHandler(ScenarioRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleRejected(ScenarioRejectedException ex, WebRequest req) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(
+                        new ErrorResponse(
+                                "too_many_requests",
+                                ex.getMessage(),
+                                null,
+                                path(req),
+                                Instant.now()
+                        )
+                );
+    }
+
     // 400: inputs inválidos genéricos lanzados por el propio código
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegal(IllegalArgumentException ex, WebRequest req) {
-        return ResponseEntity.badRequest().body(
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(
                 new ErrorResponse(
                         "bad_request",
                         ex.getMessage(),
@@ -95,10 +120,26 @@ public class ApiExceptionHandler {
         );
     }
 
+    // 4xx explícitos de los controladores (404 job desconocido, 409 job sin terminar, ...)
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleStatus(ResponseStatusException ex, WebRequest req) {
+        HttpStatusCode status = ex.getStatusCode();
+        String error = status instanceof HttpStatus known ? known.name().toLowerCase(Locale.ROOT) : "error";
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(
+                new ErrorResponse(
+                        error,
+                        ex.getReason(),
+                        null,
+                        path(req),
+                        Instant.now()
+                )
+        );
+    }
+
     // 500: fallback (última red)
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneric(Exception ex, WebRequest req) {
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).contentType(MediaType.APPLICATION_JSON).body(
                 new ErrorResponse(
                         "internal_error",
                         "Unexpected error.",
@@ -109,6 +150,18 @@ public class ApiExceptionHandler {
         );
     }
 
+    // Un fallo entre varios (p. ej. un escenario de un batch): la misma respuesta que daría su handler
+    public ResponseEntity<ErrorResponse> handleItem(Exception ex, WebRequest req) {
+        return switch (ex) {
+            case DomainException e -> handleDomain(e, req);
+            case ScenarioRejectedException e -> handleRejected(e, req);
+            case ConstraintViolationException e -> handleConstraintViolation(e, req);
+            case IllegalArgumentException e -> handleIllegal(e, req);
+            case ResponseStatusException e -> handleStatus(e, req);
+            default -> handleGeneric(ex, req);
+        };
+    }
+
     private Map<String, String> fieldErrorToMap(FieldError fe) {
         return Map.of(
                 "field", fe.getField(),
@@ -0,0 +1,157 @@
+package com.example.robot.infrastructure.controller;
+
+import com.example.robot.application.port.in.ProcessScenarioUseCase;
+import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.infrastructure.dto.BatchItemResponse;
+import com.example.robot.infrastructure.dto.BatchResponse;
+import com.example.robot.infrastructure.dto.ErrorResponse;
+import com.example.robot.infrastructure.dto.ScenarioRequest;
+import com.example.robot.infrastructure.mapper.ScenarioWebMapper;
+import com.example.robot.infrastructure.parserRaw.RawScenarioParser;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Many independent scenarios in one request: {@code POST /api/v1/robots/execute-batch}.
+ *
+ * <p>
+ * The body is a JSON array of the {@code /execute} body, or raw text holding several
+ * {@code /execute-raw} scenarios separated by blank lines. Scenarios are validated, parsed
+ * and run in parallel on the batch executor, and answered in request order. A scenario that
+ * fails does not fail the batch: its entry holds the status and {@link ErrorResponse} it
+ * would have got on its own.
+ * </p>
+ *
+ * <p>
+ * The batch executor is a virtual-thread executor of its own, not the scenario
+ * {@code ForkJoinPool}: a scenario may wait on the bounded pool, whose workers fork and join
+ * on that {@code ForkJoinPool} in the parallel modes, so its workers must never be the ones
+ * waiting.
+ * </p>
+ *
+ * <p>
+ * At most {@code robot.execution.workers} scenarios of a batch run at once, as many as the
+ * bounded pool has workers, so a batch never fills the pool's queue by itself and its large
+ * scenarios are not refused on an idle server.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v1/robots")
+public class RobotBatchController {
+
+    private final ProcessScenarioUseCase useCase;
+    private final Validator validator;
+    private final ExecutorService executor;
+    private final ApiExceptionHandler errors;
+    private final int maxScenarios;
+    private final int parallelism;
+
+    public RobotBatchController(ProcessScenarioUseCase useCase,
+                                Validator validator,
+                                ExecutorService scenarioBatchExecutor,
+                                ApiExceptionHandler errors,
+                                @Value("${robot.execution.batch-max-scenarios:1000}") int maxScenarios,
+                                @Value("${robot.execution.workers:0}") int workers) {
+        this.useCase = useCase;
+        this.validator = validator;
+        this.executor = scenarioBatchExecutor;
+        this.errors = errors;
+        this.maxScenarios = maxScenarios;
+        this.parallelism = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+    }
+
+    @PostMapping(value = "/execute-batch", consumes = "application/json", produces = "application/json")
+    public BatchResponse executeBatch(@RequestBody List<ScenarioRequest> requests, WebRequest web) {
+        checkSize(requests.size());
+        List<Supplier<ScenarioCommand>> commands = new ArrayList<>(requests.size());
+        for (ScenarioRequest request : requests) {
+            commands.add(() -> toCommand(request));
+        }
+        return run(commands, web);
+    }
+
+    @PostMapping(value = "/execute-batch", consumes = "text/plain", produces = "application/json")
+    public BatchResponse executeBatchRaw(@RequestBody String raw, WebRequest web) {
+        List<String> scenarios = RawScenarioParser.splitScenarios(raw);
+        checkSize(scenarios.size());
+        List<Supplier<ScenarioCommand>> commands = new ArrayList<>(scenarios.size());
+        for (String scenario : scenarios) {
+            commands.add(() -> RawScenarioParser.parse(scenario));
+        }
+        return run(commands, web);
+    }
+
+    private void checkSize(int scenarios) {
+        if (scenarios == 0) throw new IllegalArgumentException("Empty batch");
+        if (scenarios > maxScenarios) {
+            throw new IllegalArgumentException("Batch of " + scenarios + " scenarios exceeds the limit of " + maxScenarios);
+        }
+    }
+
+    private ScenarioCommand toCommand(ScenarioRequest request) {
+        if (request == null) throw new IllegalArgumentException("Scenario must not be null");
+        Set<ConstraintViolation<ScenarioRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) throw new ConstraintViolationException(violations);
+        return ScenarioWebMapper.toCommand(request);
+    }
+
+    /** Builds and runs every scenario on the executor, {@code parallelism} at a time, then collects the outcomes in order. */
+    private BatchResponse run(List<Supplier<ScenarioCommand>> commands, WebRequest web) {
+        Semaphore slots = new Semaphore(parallelism);
+        List<Future<BatchItemResponse>> tasks = new ArrayList<>(commands.size());
+        for (Supplier<ScenarioCommand> command : commands) {
+            tasks.add(executor.submit(() -> {
+                slots.acquire();
+                try {
+                    return item(command, web);
+                } finally {
+                    slots.release();
+                }
+            }));
+        }
+        List<BatchItemResponse> results = new ArrayList<>(tasks.size());
+        int failed = 0;
+        try {
+            for (Future<BatchItemResponse> task : tasks) {
+                BatchItemResponse result = task.get();
+                if (result.error() != null) failed++;
+                results.add(result);
+            }
+        } catch (InterruptedException e) {
+            tasks.forEach(t -> t.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the batch", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch scenario failed unexpectedly", e.getCause()); // item() catches RuntimeException
+        }
+        return new BatchResponse(results.size() - failed, failed, results);
+    }
+
+    private BatchItemResponse item(Supplier<ScenarioCommand> command, WebRequest web) {
+        try {
+            var finals = ScenarioWebMapper.toResponse(useCase.process(command.get())).finals();
+            return new BatchItemResponse(HttpStatus.OK.value(), finals, null);
+        } catch (RuntimeException e) {
+            ResponseEntity<ErrorResponse> error = errors.handleItem(e, web);
+            return new BatchItemResponse(error.getStatusCode().value(), null, error.getBody());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.robot.infrastructure.controller;
+
+import com.example.robot.application.port.in.ScenarioCacheStats;
+import com.example.robot.application.port.in.ScenarioCacheUseCase;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/** Counters of the scenario result cache: {@code GET /api/v1/robots/cache}. */
+@RestController
+@RequestMapping("/api/v1/robots/cache")
+public class RobotCacheController {
+
+    private final ScenarioCacheUseCase cache;
+
+    public RobotCacheController(ScenarioCacheUseCase cache) {
+        this.cache = cache;
+    }
+
+    @GetMapping(produces = "application/json")
+    public ScenarioCacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -1,10 +1,10 @@
 package com.example.robot.infrastructure.controller;
 
+import com.example.robot.application.port.in.InspectScenarioUseCase;
+import com.example.robot.application.port.in.InspectionOptions;
 import com.example.robot.application.port.in.ProcessScenarioUseCase;
-import com.example.robot.application.port.in.ScenarioResult;
-import com.example.robot.infrastructure.dto.FinalStateResponse;
+import com.example.robot.application.port.in.ScenarioCommand;
 import com.example.robot.infrastructure.dto.ScenarioRequest;
-import com.example.robot.infrastructure.dto.ScenarioResponse;
 import com.example.robot.infrastructure.mapper.ScenarioWebMapper;
 import com.example.robot.infrastructure.parserRaw.RawScenarioParser;
 import jakarta.validation.Valid;
@@ -12,35 +12,40 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * Whole-scenario endpoints. {@code /execute} and {@code /execute-raw} also return every
+ * robot's path, packed as 2-bit steps, with {@code ?trace=true}, and the cleaned floor
+ * with {@code ?coverage=true} (plus its bitmap with {@code &bitmap=true}).
+ */
 @RestController
 @RequestMapping("/api/v1/robots")
 public class RobotController {
 
     private final ProcessScenarioUseCase useCase;
+    private final InspectScenarioUseCase inspector;
 
-    public RobotController(ProcessScenarioUseCase useCase) {
+    public RobotController(ProcessScenarioUseCase useCase, InspectScenarioUseCase inspector) {
         this.useCase = useCase;
+        this.inspector = inspector;
     }
 
-    @PostMapping("/execute")
-    public ResponseEntity<ScenarioResponse> execute(@Valid @RequestBody ScenarioRequest request) {
-        ScenarioResult result = useCase.process(ScenarioWebMapper.toCommand(request));
-        return ResponseEntity.ok(ScenarioWebMapper.toResponse(result));
+    @PostMapping(value = "/execute", consumes = "application/json", produces = "application/json")
+    public ResponseEntity<?> execute(@Valid @RequestBody ScenarioRequest request,
+                                     @RequestParam(defaultValue = "false") boolean trace,
+                                     @RequestParam(defaultValue = "false") boolean coverage,
+                                     @RequestParam(defaultValue = "false") boolean bitmap) {
+        return respond(ScenarioWebMapper.toCommand(request), new InspectionOptions(trace, coverage, bitmap));
     }
 
     @PostMapping(value = "/execute-raw", consumes = "text/plain", produces = "application/json")
-    public ResponseEntity<ScenarioResponse> executeRaw(@RequestBody String raw) {
-        var cmd = RawScenarioParser.parse(raw);
-        var result = useCase.process(cmd);
-
-        var response = new ScenarioResponse(
-                result.finals().stream()
-                        .map(f -> new FinalStateResponse(f.x(), f.y(), f.orientation()))
-                        .toList()
-        );
-        return ResponseEntity.ok(response);
+    public ResponseEntity<?> executeRaw(@RequestBody String raw,
+                                        @RequestParam(defaultValue = "false") boolean trace,
+                                        @RequestParam(defaultValue = "false") boolean coverage,
+                                        @RequestParam(defaultValue = "false") boolean bitmap) {
+        return respond(RawScenarioParser.parse(raw), new InspectionOptions(trace, coverage, bitmap));
     }
 
     @PostMapping(value = "/execute-raw-plain", consumes = "text/plain", produces = "text/plain")
@@ -59,4 +64,11 @@ public class RobotController {
         );
         return sb.toString().trim();
     }
+
+    private ResponseEntity<?> respond(ScenarioCommand command, InspectionOptions options) {
+        if (options.trace() || options.coverage()) {
+            return ResponseEntity.ok(ScenarioWebMapper.toInspectedResponse(inspector.inspect(command, options)));
+        }
+        return ResponseEntity.ok(ScenarioWebMapper.toResponse(useCase.process(command)));
+    }
 }
@@ -0,0 +1,118 @@
+package com.example.robot.infrastructure.controller;
+
+import com.example.robot.application.port.in.FinalState;
+import com.example.robot.application.port.in.JobStatus;
+import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.application.port.in.ScenarioJob;
+import com.example.robot.application.port.in.ScenarioJobUseCase;
+import com.example.robot.infrastructure.dto.JobResponse;
+import com.example.robot.infrastructure.dto.ScenarioRequest;
+import com.example.robot.infrastructure.mapper.ScenarioWebMapper;
+import com.example.robot.infrastructure.parserRaw.RawScenarioParser;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Background jobs for scenarios too large to answer within one request.
+ *
+ * <p>{@code POST /jobs} accepts the body of {@code /execute} or {@code /execute-raw} and
+ * answers 202 with the job id; {@code GET /jobs/{id}} reports status and progress, and
+ * {@code GET /jobs/{id}/result} streams the final states once the job has succeeded.</p>
+ */
+@RestController
+@RequestMapping("/api/v1/robots/jobs")
+public class RobotJobController {
+
+    private final ScenarioJobUseCase jobs;
+    private final ObjectMapper objectMapper;
+
+    public RobotJobController(ScenarioJobUseCase jobs, ObjectMapper objectMapper) {
+        this.jobs = jobs;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(consumes = "application/json", produces = "application/json")
+    public ResponseEntity<JobResponse> submit(@Valid @RequestBody ScenarioRequest request) {
+        return accepted(ScenarioWebMapper.toCommand(request));
+    }
+
+    @PostMapping(consumes = "text/plain", produces = "application/json")
+    public ResponseEntity<JobResponse> submitRaw(@RequestBody String raw) {
+        return accepted(RawScenarioParser.parse(raw));
+    }
+
+    @GetMapping(value = "/{id}", produces = "application/json")
+    public JobResponse status(@PathVariable String id) {
+        return ScenarioWebMapper.toJobResponse(find(id));
+    }
+
+    @GetMapping(value = "/{id}/result", produces = "application/json")
+    public void result(@PathVariable String id, HttpServletResponse response) throws IOException {
+        List<FinalState> finals = finals(id);
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("finals");
+            for (FinalState f : finals) {
+                gen.writeStartObject();
+                gen.writeNumberField("x", f.x());
+                gen.writeNumberField("y", f.y());
+                gen.writeStringField("orientation", String.valueOf(f.orientation()));
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+    }
+
+    @GetMapping(value = "/{id}/result", produces = "text/plain")
+    public void resultPlain(@PathVariable String id, HttpServletResponse response) throws IOException {
+        List<FinalState> finals = finals(id);
+
+        response.setContentType("text/plain;charset=UTF-8");
+        Writer out = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        for (int i = 0; i < finals.size(); i++) {
+            FinalState f = finals.get(i);
+            if (i > 0) out.write('\n');
+            out.write(f.x() + " " + f.y() + " " + f.orientation());
+        }
+        out.flush();
+    }
+
+    private ResponseEntity<JobResponse> accepted(ScenarioCommand command) {
+        ScenarioJob job = jobs.submit(command);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/robots/jobs/" + job.id()))
+                .body(ScenarioWebMapper.toJobResponse(job));
+    }
+
+    private ScenarioJob find(String id) {
+        return jobs.find(id).orElseThrow(() ->
+                new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown or expired job: " + id));
+    }
+
+    private List<FinalState> finals(String id) {
+        ScenarioJob job = find(id);
+        if (job.status() != JobStatus.SUCCEEDED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Job " + id + " is " + job.status());
+        }
+        return jobs.result(id).orElseThrow(() ->
+                new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown or expired job: " + id));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.robot.infrastructure.controller;
+
+import com.example.robot.application.port.in.FinalState;
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.application.port.in.ScenarioResult;
+import com.example.robot.application.port.in.ScenarioSession;
+import com.example.robot.application.port.in.ScenarioSessionUseCase;
+import com.example.robot.infrastructure.dto.OccupancyResponse;
+import com.example.robot.infrastructure.dto.ScenarioResponse;
+import com.example.robot.infrastructure.dto.SessionRequest;
+import com.example.robot.infrastructure.dto.SessionResponse;
+import com.example.robot.infrastructure.dto.SessionRobotsRequest;
+import com.example.robot.infrastructure.mapper.ScenarioWebMapper;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Scenarios kept open between requests, for fleets that place their robots a few at a time.
+ *
+ * <p>{@code POST /sessions} opens a session on an empty grid and answers 201 with its id;
+ * {@code POST /sessions/{id}/robots} runs more robots after the ones already placed and
+ * answers their final states; {@code GET /sessions/{id}/finals} and
+ * {@code GET /sessions/{id}/occupancy?x=&y=} query the session, and
+ * {@code DELETE /sessions/{id}} closes it. Idle sessions expire on their own.</p>
+ */
+@RestController
+@RequestMapping("/api/v1/robots/sessions")
+public class RobotSessionController {
+
+    private final ScenarioSessionUseCase sessions;
+
+    public RobotSessionController(ScenarioSessionUseCase sessions) {
+        this.sessions = sessions;
+    }
+
+    @PostMapping(consumes = "application/json", produces = "application/json")
+    public ResponseEntity<SessionResponse> create(@Valid @RequestBody SessionRequest request) {
+        ScenarioSession session = sessions.create(new GridSize(request.maxX(), request.maxY()));
+        return ResponseEntity.created(URI.create("/api/v1/robots/sessions/" + session.id()))
+                .body(ScenarioWebMapper.toSessionResponse(session));
+    }
+
+    @PostMapping(value = "/{id}/robots", consumes = "application/json", produces = "application/json")
+    public ScenarioResponse append(@PathVariable String id, @Valid @RequestBody SessionRobotsRequest request) {
+        List<FinalState> finals = sessions.append(id, ScenarioWebMapper.toPrograms(request.programs()))
+                .orElseThrow(() -> unknown(id));
+        return ScenarioWebMapper.toResponse(new ScenarioResult(finals));
+    }
+
+    @GetMapping(value = "/{id}", produces = "application/json")
+    public SessionResponse status(@PathVariable String id) {
+        return ScenarioWebMapper.toSessionResponse(sessions.find(id).orElseThrow(() -> unknown(id)));
+    }
+
+    @GetMapping(value = "/{id}/finals", produces = "application/json")
+    public ScenarioResponse finals(@PathVariable String id) {
+        return ScenarioWebMapper.toResponse(new ScenarioResult(sessions.finals(id).orElseThrow(() -> unknown(id))));
+    }
+
+    @GetMapping(value = "/{id}/occupancy", produces = "application/json")
+    public OccupancyResponse occupancy(@PathVariable String id, @RequestParam int x, @RequestParam int y) {
+        return new OccupancyResponse(x, y, sessions.isOccupied(id, x, y).orElseThrow(() -> unknown(id)));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> close(@PathVariable String id) {
+        if (!sessions.close(id)) throw unknown(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static ResponseStatusException unknown(String id) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown or expired session: " + id);
+    }
+}
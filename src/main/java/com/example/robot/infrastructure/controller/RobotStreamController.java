@@ -0,0 +1,224 @@
+package com.example.robot.infrastructure.controller;
+
+import com.example.robot.application.port.in.FinalState;
+import com.example.robot.application.port.in.RobotProgram;
+import com.example.robot.application.port.in.ScenarioRun;
+import com.example.robot.application.port.in.StreamScenarioUseCase;
+import com.example.robot.infrastructure.codec.BinaryScenarioCodec;
+import com.example.robot.infrastructure.dto.ScenarioRequest;
+import com.example.robot.infrastructure.mapper.ScenarioWebMapper;
+import com.example.robot.infrastructure.parserJson.JsonScenarioReader;
+import com.example.robot.infrastructure.parserRaw.RawScenarioReader;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Streaming endpoints: every robot is executed, and its result written, as soon as it has
+ * been read from the request body, so memory stays bounded by the largest robot.
+ *
+ * <ul>
+ *   <li>{@code /execute-raw-stream}: the text format of {@code /execute-raw-plain}, read
+ *       line by line</li>
+ *   <li>{@code /execute-stream}: the JSON body of {@code /execute}, read with a Jackson
+ *       {@link JsonParser} and answered through a {@link JsonGenerator}; each robot is
+ *       validated as it is read</li>
+ *   <li>{@code /execute} with {@value BinaryScenarioCodec#MEDIA_TYPE}: the binary format
+ *       of {@link BinaryScenarioCodec}, instructions decoded straight into their packed
+ *       form</li>
+ * </ul>
+ *
+ * <p>
+ * With {@code Accept: application/x-ndjson}, {@code /execute}, {@code /execute-raw} and
+ * {@code /execute-stream} answer one JSON final state per line, in robot order. The first
+ * line is flushed at once and the following ones in batches of {@value #FLUSH_LINES}
+ * lines, or sooner when {@value #FLUSH_MILLIS} ms have gone by since the last flush.
+ * </p>
+ *
+ * <p>Invalid input is reported as usual while nothing has been sent yet; once the
+ * response buffer has been flushed, an error ends the response early.</p>
+ */
+@RestController
+@RequestMapping("/api/v1/robots")
+public class RobotStreamController {
+
+    /** NDJSON lines written between two flushes, at most. */
+    static final int FLUSH_LINES = 256;
+
+    /** Longest time an NDJSON line waits for its flush, checked whenever a line is written. */
+    static final long FLUSH_MILLIS = 20;
+
+    private final StreamScenarioUseCase useCase;
+    private final ObjectMapper objectMapper;
+
+    public RobotStreamController(StreamScenarioUseCase useCase, ObjectMapper objectMapper) {
+        this.useCase = useCase;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(value = "/execute-raw-stream", consumes = "text/plain", produces = "text/plain")
+    public void executeRawStream(InputStream body, HttpServletResponse response) throws IOException {
+        var reader = new RawScenarioReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        ScenarioRun run = useCase.open(reader.readGrid());
+
+        response.setContentType("text/plain;charset=UTF-8");
+        Writer out = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        try {
+            boolean first = true;
+            for (RobotProgram program = reader.next(); program != null; program = reader.next()) {
+                FinalState f = run.execute(program);
+                if (!first) out.write('\n');
+                out.write(Integer.toString(f.x()));
+                out.write(' ');
+                out.write(Integer.toString(f.y()));
+                out.write(' ');
+                out.write(f.orientation());
+                first = false;
+            }
+            out.flush();
+        } catch (RuntimeException e) {
+            throw discardUnsent(response, e);
+        }
+    }
+
+    @PostMapping(value = "/execute-stream", consumes = "application/json", produces = "application/json")
+    public void executeStream(InputStream body, HttpServletResponse response) throws IOException {
+        JsonParser parser = objectMapper.getFactory().createParser(body);
+        var reader = new JsonScenarioReader(parser);
+        ScenarioRun run = useCase.open(reader.readGrid());
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        // Sin cierre automático: un error a mitad no debe dejar un JSON completo y aparentemente válido
+        JsonGenerator gen = objectMapper.getFactory().createGenerator(response.getOutputStream())
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        try {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("finals");
+            for (JsonScenarioReader.Robot robot = reader.next(); robot != null; robot = reader.next()) {
+                FinalState f = run.execute(robot.x(), robot.y(), robot.orientation(), robot.instructions());
+                gen.writeStartObject();
+                gen.writeNumberField("x", f.x());
+                gen.writeNumberField("y", f.y());
+                gen.writeStringField("orientation", String.valueOf(f.orientation()));
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+            gen.close();
+        } catch (RuntimeException e) {
+            throw discardUnsent(response, e);
+        }
+    }
+
+    @PostMapping(value = "/execute", consumes = "application/json", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void executeNdjson(@Valid @RequestBody ScenarioRequest request, HttpServletResponse response) throws IOException {
+        var command = ScenarioWebMapper.toCommand(request);
+        ScenarioRun run = useCase.open(command.grid());
+        Iterator<RobotProgram> programs = command.programs().iterator();
+        writeNdjson(() -> programs.hasNext() ? run.execute(programs.next()) : null, response);
+    }
+
+    @PostMapping(value = "/execute-raw", consumes = "text/plain", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void executeRawNdjson(InputStream body, HttpServletResponse response) throws IOException {
+        var reader = new RawScenarioReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        ScenarioRun run = useCase.open(reader.readGrid());
+        writeNdjson(() -> {
+            RobotProgram program = reader.next();
+            return program == null ? null : run.execute(program);
+        }, response);
+    }
+
+    @PostMapping(value = "/execute-stream", consumes = "application/json", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void executeStreamNdjson(InputStream body, HttpServletResponse response) throws IOException {
+        var reader = new JsonScenarioReader(objectMapper.getFactory().createParser(body));
+        ScenarioRun run = useCase.open(reader.readGrid());
+        writeNdjson(() -> {
+            JsonScenarioReader.Robot robot = reader.next();
+            return robot == null ? null : run.execute(robot.x(), robot.y(), robot.orientation(), robot.instructions());
+        }, response);
+    }
+
+    @PostMapping(value = "/execute", consumes = BinaryScenarioCodec.MEDIA_TYPE, produces = BinaryScenarioCodec.MEDIA_TYPE)
+    public void executeBinary(InputStream body, HttpServletResponse response) throws IOException {
+        var decoder = new BinaryScenarioCodec.Decoder(body);
+        ScenarioRun run = useCase.open(decoder.grid());
+
+        response.setContentType(BinaryScenarioCodec.MEDIA_TYPE);
+        OutputStream out = new BufferedOutputStream(response.getOutputStream());
+        try {
+            BinaryScenarioCodec.writeResultCount(out, decoder.robots());
+            while (decoder.hasNext()) {
+                BinaryScenarioCodec.Robot robot = decoder.next();
+                FinalState f = run.execute(robot.x(), robot.y(), robot.orientation(), robot.instructions());
+                BinaryScenarioCodec.writeResult(out, f);
+            }
+            out.flush();
+        } catch (RuntimeException e) {
+            throw discardUnsent(response, e);
+        }
+    }
+
+    /**
+     * Writes one final state per line until {@code results} returns {@code null}, each
+     * one as soon as {@code results} yields it.
+     */
+    private void writeNdjson(Supplier<FinalState> results, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        JsonGenerator gen = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        gen.setRootValueSeparator(new SerializedString(""));
+        try {
+            int unflushed = 0;
+            long lastFlush = System.nanoTime();
+            boolean first = true;
+            for (FinalState f = results.get(); f != null; f = results.get()) {
+                gen.writeStartObject();
+                gen.writeNumberField("x", f.x());
+                gen.writeNumberField("y", f.y());
+                gen.writeStringField("orientation", String.valueOf(f.orientation()));
+                gen.writeEndObject();
+                gen.writeRaw('\n');
+                unflushed++;
+
+                long now = System.nanoTime();
+                if (first || unflushed == FLUSH_LINES || now - lastFlush >= TimeUnit.MILLISECONDS.toNanos(FLUSH_MILLIS)) {
+                    gen.flush();
+                    unflushed = 0;
+                    lastFlush = now;
+                    first = false;
+                }
+            }
+            gen.close();
+        } catch (RuntimeException e) {
+            throw discardUnsent(response, e);
+        }
+    }
+
+    /** Drops the partial result while nothing has been sent, so the error handler can answer instead. */
+    private static RuntimeException discardUnsent(HttpServletResponse response, RuntimeException e) {
+        if (!response.isCommitted()) {
+            response.reset();
+        }
+        return e;
+    }
+}
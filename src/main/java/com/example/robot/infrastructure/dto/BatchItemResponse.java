@@ -0,0 +1,11 @@
+package com.example.robot.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/** DTO representing the outcome of one scenario of a batch: its final states, or the error it failed with. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResponse(int status,                      // HTTP status the scenario would get on its own
+                                List<FinalStateResponse> finals,
+                                ErrorResponse error) { }
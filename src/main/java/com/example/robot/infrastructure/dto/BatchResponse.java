@@ -0,0 +1,8 @@
+package com.example.robot.infrastructure.dto;
+
+import java.util.List;
+
+/** DTO representing the outcomes of a batch of scenarios, in request order. */
+public record BatchResponse(int succeeded,
+                            int failed,
+                            List<BatchItemResponse> results) { }
@@ -0,0 +1,14 @@
+package com.example.robot.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * DTO representing the floor cleaned by a scenario. The optional {@code bitmap} holds one
+ * bit per cell, bit {@code y * (maxX + 1) + x} least significant bit first, base64-encoded.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CoverageResponse(int[] robots,        // distinct cells cleaned by each robot
+                               long covered,        // distinct cells cleaned by any robot
+                               long area,           // cells in the grid
+                               double percentage,   // covered / area, as a percentage
+                               String bitmap) { }
@@ -0,0 +1,11 @@
+package com.example.robot.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/** DTO representing the scenario response with the final states plus the requested paths and coverage. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record InspectedScenarioResponse(List<FinalStateResponse> finals,
+                                        List<RobotTraceResponse> traces,
+                                        CoverageResponse coverage) { }
@@ -0,0 +1,8 @@
+package com.example.robot.infrastructure.dto;
+
+/** DTO representing the status and progress of a background scenario job. */
+public record JobResponse(String id,
+                          String status,
+                          int completed,   // robots executed so far
+                          int total,       // robots in the scenario
+                          String error) { }
@@ -0,0 +1,6 @@
+package com.example.robot.infrastructure.dto;
+
+/** DTO representing whether a robot occupies a cell. */
+public record OccupancyResponse(int x,
+                                int y,
+                                boolean occupied) { }
@@ -0,0 +1,8 @@
+package com.example.robot.infrastructure.dto;
+
+/**
+ * DTO representing one robot's path: {@code steps} 2-bit codes ({@code 0} left,
+ * {@code 1} right, {@code 2} moved, {@code 3} move refused), packed four per byte with
+ * the first step in the lowest bits, base64-encoded.
+ */
+public record RobotTraceResponse(int steps, String path) { }
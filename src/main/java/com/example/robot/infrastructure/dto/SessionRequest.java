@@ -0,0 +1,7 @@
+package com.example.robot.infrastructure.dto;
+
+import jakarta.validation.constraints.Min;
+
+/** DTO representing the grid of a new scenario session. */
+public record SessionRequest(@Min(0) int maxX,
+                             @Min(0) int maxY) { }
@@ -0,0 +1,7 @@
+package com.example.robot.infrastructure.dto;
+
+/** DTO representing a scenario session: its grid and how many robots it holds. */
+public record SessionResponse(String id,
+                              int maxX,
+                              int maxY,
+                              int robots) { }
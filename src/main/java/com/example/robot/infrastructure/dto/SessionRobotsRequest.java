@@ -0,0 +1,10 @@
+package com.example.robot.infrastructure.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/** DTO representing robots appended to a scenario session. */
+public record SessionRobotsRequest(@NotNull @Size(min = 1) List<@Valid RobotProgramRequest> programs) { }
@@ -3,11 +3,22 @@ package com.example.robot.infrastructure.mapper;
 import com.example.robot.application.port.in.GridSize;
 import com.example.robot.application.port.in.RobotProgram;
 import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.application.port.in.ScenarioJob;
 import com.example.robot.application.port.in.ScenarioResult;
+import com.example.robot.application.port.in.ScenarioSession;
+import com.example.robot.application.port.in.ScenarioCoverage;
+import com.example.robot.application.port.in.ScenarioInspection;
+import com.example.robot.infrastructure.dto.CoverageResponse;
 import com.example.robot.infrastructure.dto.FinalStateResponse;
+import com.example.robot.infrastructure.dto.InspectedScenarioResponse;
+import com.example.robot.infrastructure.dto.JobResponse;
+import com.example.robot.infrastructure.dto.RobotProgramRequest;
+import com.example.robot.infrastructure.dto.RobotTraceResponse;
 import com.example.robot.infrastructure.dto.ScenarioRequest;
 import com.example.robot.infrastructure.dto.ScenarioResponse;
+import com.example.robot.infrastructure.dto.SessionResponse;
 
+import java.util.Base64;
 import java.util.List;
 
 /** Mapper converting between web DTOs and app-level DTOs for scenarios. */
@@ -24,7 +35,17 @@ public class ScenarioWebMapper {
      */
     public static ScenarioCommand toCommand(ScenarioRequest req) {
         GridSize grid = new GridSize(req.maxX(), req.maxY());
-        List<RobotProgram> programs = req.programs().stream()
+        return new ScenarioCommand(grid, toPrograms(req.programs()));
+    }
+
+    /**
+     * Converts robot program DTOs into RobotPrograms, upper-casing orientation and instructions.
+     *
+     * @param programs the RobotProgramRequest DTOs
+     * @return the RobotPrograms, in the same order
+     */
+    public static List<RobotProgram> toPrograms(List<RobotProgramRequest> programs) {
+        return programs.stream()
                 .map(p -> new RobotProgram(
                         p.startX(),
                         p.startY(),
@@ -32,7 +53,6 @@ public class ScenarioWebMapper {
                         p.instructions().toUpperCase()
                 ))
                 .toList();
-        return new ScenarioCommand(grid, programs);
     }
 
     // app → web
@@ -48,4 +68,49 @@ public class ScenarioWebMapper {
                 .toList();
         return new ScenarioResponse(finals);
     }
+
+    /**
+     * Converts a ScenarioInspection into an InspectedScenarioResponse DTO; paths and the
+     * coverage bitmap are base64-encoded.
+     *
+     * @param inspection the final states plus the requested paths and coverage
+     * @return an InspectedScenarioResponse DTO
+     */
+    public static InspectedScenarioResponse toInspectedResponse(ScenarioInspection inspection) {
+        Base64.Encoder base64 = Base64.getEncoder();
+        List<FinalStateResponse> finals = inspection.finals().stream()
+                .map(f -> new FinalStateResponse(f.x(), f.y(), f.orientation()))
+                .toList();
+        List<RobotTraceResponse> traces = inspection.traces() == null ? null : inspection.traces().stream()
+                .map(t -> new RobotTraceResponse(t.steps(), base64.encodeToString(t.path())))
+                .toList();
+        ScenarioCoverage c = inspection.coverage();
+        CoverageResponse coverage = c == null ? null : new CoverageResponse(
+                c.robotCells(),
+                c.coveredCells(),
+                c.area(),
+                100.0 * c.coveredCells() / c.area(),
+                c.bitmap() == null ? null : base64.encodeToString(c.bitmap()));
+        return new InspectedScenarioResponse(finals, traces, coverage);
+    }
+
+    /**
+     * Converts a ScenarioJob snapshot into a JobResponse DTO for the web layer.
+     *
+     * @param job the job snapshot
+     * @return a JobResponse DTO with status and progress
+     */
+    public static JobResponse toJobResponse(ScenarioJob job) {
+        return new JobResponse(job.id(), job.status().name(), job.completed(), job.total(), job.error());
+    }
+
+    /**
+     * Converts a ScenarioSession snapshot into a SessionResponse DTO for the web layer.
+     *
+     * @param session the session snapshot
+     * @return a SessionResponse DTO with the grid and the number of robots
+     */
+    public static SessionResponse toSessionResponse(ScenarioSession session) {
+        return new SessionResponse(session.id(), session.grid().maxX(), session.grid().maxY(), session.robots());
+    }
 }
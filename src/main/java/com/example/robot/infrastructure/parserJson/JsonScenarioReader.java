@@ -0,0 +1,166 @@
+package com.example.robot.infrastructure.parserJson;
+
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.domain.InstructionSequence;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Incremental reader of the {@code /execute} JSON body, on top of a Jackson
+ * {@link JsonParser}: only the robot being read is held in memory, however long the
+ * {@code programs} array is.
+ *
+ * <p>
+ * Each element is checked against the same rules as {@code ScenarioRequest} and
+ * {@code RobotProgramRequest}, and its instructions are packed straight from the
+ * parser's text buffer. Violations are reported as {@link IllegalArgumentException}s
+ * naming the field, e.g. {@code programs[3].instructions}.
+ * </p>
+ *
+ * <p>
+ * {@code maxX} and {@code maxY} must come before {@code programs}, since robots are
+ * executed as they are read. Unknown fields are skipped.
+ * </p>
+ *
+ * <p>Call {@link #readGrid()} once, then {@link #next()} until it returns {@code null}.</p>
+ */
+public final class JsonScenarioReader {
+
+    /** One robot of the {@code programs} array. */
+    public record Robot(int x, int y, char orientation, InstructionSequence instructions) { }
+
+    private final JsonParser in;
+    private int robots;
+    private boolean done;
+
+    public JsonScenarioReader(JsonParser in) {
+        this.in = in;
+    }
+
+    /** Reads the object up to the start of the {@code programs} array. */
+    public GridSize readGrid() {
+        try {
+            if (in.nextToken() != JsonToken.START_OBJECT) throw new IllegalArgumentException("Scenario must be a JSON object");
+            Integer maxX = null;
+            Integer maxY = null;
+            while (in.nextToken() == JsonToken.FIELD_NAME) {
+                String field = in.currentName();
+                in.nextToken();
+                switch (field) {
+                    case "maxX" -> maxX = nonNegative(field);
+                    case "maxY" -> maxY = nonNegative(field);
+                    case "programs" -> {
+                        if (maxX == null || maxY == null) {
+                            throw new IllegalArgumentException("maxX and maxY must come before programs");
+                        }
+                        if (in.currentToken() != JsonToken.START_ARRAY) {
+                            throw new IllegalArgumentException("programs: must be an array");
+                        }
+                        return new GridSize(maxX, maxY);
+                    }
+                    default -> in.skipChildren();
+                }
+            }
+            throw new IllegalArgumentException("programs: must not be null");
+        } catch (IOException e) {
+            throw unreadable(e);
+        }
+    }
+
+    /**
+     * Reads the next robot.
+     *
+     * @return the next robot, or {@code null} once the {@code programs} array is exhausted
+     */
+    public Robot next() {
+        if (done) return null;
+        try {
+            JsonToken token = in.nextToken();
+            if (token == JsonToken.END_ARRAY) {
+                if (robots == 0) throw new IllegalArgumentException("programs: size must be at least 1");
+                finish();
+                return null;
+            }
+            String path = "programs[" + robots + "]";
+            if (token != JsonToken.START_OBJECT) throw new IllegalArgumentException(path + ": must be an object");
+
+            int x = 0;
+            int y = 0;
+            char orientation = 0;
+            InstructionSequence instructions = null;
+            while (in.nextToken() == JsonToken.FIELD_NAME) {
+                String field = in.currentName();
+                in.nextToken();
+                switch (field) {
+                    case "startX" -> x = nonNegative(path + ".startX");
+                    case "startY" -> y = nonNegative(path + ".startY");
+                    case "orientation" -> orientation = orientation(path + ".orientation");
+                    case "instructions" -> instructions = instructions(path + ".instructions");
+                    default -> in.skipChildren();
+                }
+            }
+            if (orientation == 0) throw new IllegalArgumentException(path + ".orientation: orientation must be one of N,E,S,W");
+            if (instructions == null) throw new IllegalArgumentException(path + ".instructions: must not be blank");
+            robots++;
+            return new Robot(x, y, orientation, instructions);
+        } catch (IOException e) {
+            throw unreadable(e);
+        }
+    }
+
+    /** Reads the fields after {@code programs}; the grid cannot change once robots have run. */
+    private void finish() throws IOException {
+        done = true;
+        while (in.nextToken() == JsonToken.FIELD_NAME) {
+            String field = in.currentName();
+            if (field.equals("maxX") || field.equals("maxY") || field.equals("programs")) {
+                throw new IllegalArgumentException(field + " must come before the end of programs");
+            }
+            in.nextToken();
+            in.skipChildren();
+        }
+        if (in.nextToken() != null) throw new IllegalArgumentException("Unexpected content after the scenario");
+    }
+
+    private int nonNegative(String path) throws IOException {
+        if (in.currentToken() != JsonToken.VALUE_NUMBER_INT) throw new IllegalArgumentException(path + ": must be an integer");
+        int value = in.getIntValue();
+        if (value < 0) throw new IllegalArgumentException(path + ": must be greater than or equal to 0");
+        return value;
+    }
+
+    private char orientation(String path) throws IOException {
+        if (in.currentToken() == JsonToken.VALUE_STRING && in.getTextLength() == 1) {
+            char o = Character.toUpperCase(in.getTextCharacters()[in.getTextOffset()]);
+            if ("NESW".indexOf(o) >= 0) return o;
+        }
+        throw new IllegalArgumentException(path + ": orientation must be one of N,E,S,W");
+    }
+
+    private InstructionSequence instructions(String path) throws IOException {
+        if (in.currentToken() != JsonToken.VALUE_STRING || in.getTextLength() == 0) {
+            throw new IllegalArgumentException(path + ": must not be blank");
+        }
+        char[] chars = in.getTextCharacters();
+        int from = in.getTextOffset();
+        int to = from + in.getTextLength();
+        for (int i = from; i < to; i++) {
+            switch (chars[i]) {
+                case 'L', 'R', 'M', 'l', 'r', 'm' -> { }
+                default -> throw new IllegalArgumentException(path + ": instructions must contain only L,R,M");
+            }
+        }
+        return InstructionSequence.parse(chars, from, to - from);
+    }
+
+    private static RuntimeException unreadable(IOException e) {
+        if (e instanceof JsonProcessingException json) {
+            return new IllegalArgumentException("Request body is invalid or unreadable: " + json.getOriginalMessage());
+        }
+        return new UncheckedIOException(e);
+    }
+}
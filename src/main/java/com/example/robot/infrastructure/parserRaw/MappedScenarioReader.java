@@ -0,0 +1,197 @@
+package com.example.robot.infrastructure.parserRaw;
+
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.application.port.in.RobotProgram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a raw text scenario file of any size through memory-mapped windows.
+ *
+ * <p>
+ * The file is mapped with {@link FileChannel#map} a window at a time, and lines are
+ * handed to {@link RawScenarioScanner} as {@link CharSequence} views over the mapped
+ * bytes, so the file is never decoded into a {@code String}: only each robot's
+ * instruction string is copied out. Lines follow the {@link RawScenarioParser} grammar
+ * and produce the same error messages.
+ * </p>
+ *
+ * <p>
+ * The file is read as ASCII text: only {@code \n}, {@code \r}, {@code \u000B} and
+ * {@code \f} end a line, and any other byte is taken as its ISO-8859-1 character.
+ * </p>
+ *
+ * <p>Call {@link #readGrid()} once, then {@link #next()} until it returns {@code null}.</p>
+ */
+public final class MappedScenarioReader implements AutoCloseable {
+
+    /** Default window size: 64 MB of address space, only paged in as it is read. */
+    public static final int DEFAULT_WINDOW_BYTES = 64 << 20;
+
+    private final FileChannel channel;
+    private final int windowBytes;
+    private final long end;
+    private MappedByteBuffer window;
+    private long base;
+    private int windowLength;
+    private long mark;  // no byte before this offset is needed any more
+    private long pos;   // start of the next unread line, or end
+    private int lineNumber;
+
+    public MappedScenarioReader(Path file) throws IOException {
+        this(file, DEFAULT_WINDOW_BYTES);
+    }
+
+    /**
+     * @param file        the scenario file
+     * @param windowBytes preferred size of each mapped window
+     */
+    public MappedScenarioReader(Path file, int windowBytes) throws IOException {
+        if (windowBytes < 1) throw new IllegalArgumentException("windowBytes must be positive");
+        this.windowBytes = windowBytes;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            long last = size;
+            while (last > 0 && Character.isWhitespace(byteAt(last - 1, Math.max(0, last - windowBytes)))) last--;
+            long first = 0;
+            while (first < last && Character.isWhitespace(byteAt(first, first))) first++;
+            if (first == last) throw new IllegalArgumentException("Empty scenario input");
+            this.end = last;
+            this.mark = first;
+            this.pos = first;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /** Reads the grid line; the scenario must also hold at least one more pair of lines. */
+    public GridSize readGrid() {
+        long gridEnd = lineEnd(pos);
+        long second = skipBreaks(gridEnd);
+        if (second == end || skipBreaks(lineEnd(second)) == end) {
+            throw new IllegalArgumentException("Incomplete scenario");
+        }
+        GridSize grid = RawScenarioScanner.parseGrid(new Line(pos, gridEnd));
+        advanceTo(second);
+        lineNumber = 1;
+        return grid;
+    }
+
+    /**
+     * Reads the next robot.
+     *
+     * @return the next robot program, or {@code null} once the input is exhausted
+     */
+    public RobotProgram next() {
+        if (pos == end) return null;
+        long posEnd = lineEnd(pos);
+        long cmdStart = skipBreaks(posEnd);
+        if (cmdStart == end) {
+            throw new IllegalArgumentException("Missing instruction line for robot at line " + (lineNumber + 1));
+        }
+        long cmdEnd = lineEnd(cmdStart);
+        RobotProgram program = RawScenarioScanner.parseProgram(new Line(pos, posEnd), new Line(cmdStart, cmdEnd));
+        advanceTo(skipBreaks(cmdEnd));
+        lineNumber += 2;
+        return program;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private void advanceTo(long offset) {
+        pos = offset;
+        mark = offset;
+    }
+
+    private long lineEnd(long from) {
+        long i = from;
+        while (i < end && !isLineBreak(byteAt(i))) i++;
+        return i;
+    }
+
+    private long skipBreaks(long from) {
+        long i = from;
+        while (i < end && isLineBreak(byteAt(i))) i++;
+        return i;
+    }
+
+    private char byteAt(long offset) {
+        return byteAt(offset, mark);
+    }
+
+    /** The byte at {@code offset}, remapping the window from {@code keepFrom} when needed. */
+    private char byteAt(long offset, long keepFrom) {
+        if (offset < base || offset >= base + windowLength) {
+            remap(keepFrom, offset);
+        }
+        return (char) (window.get((int) (offset - base)) & 0xff);
+    }
+
+    private void remap(long from, long offset) {
+        try {
+            long size = Math.max(windowBytes, 2 * (offset - from + 1)); // lines longer than a window double it
+            size = Math.min(size, channel.size() - from);
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Scenario line longer than 2 GB at byte " + from);
+            }
+            window = channel.map(FileChannel.MapMode.READ_ONLY, from, size);
+            base = from;
+            windowLength = (int) size;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isLineBreak(char c) {
+        return c >= '\n' && c <= '\r';
+    }
+
+    /** A line of the file, read through the current window; only valid until the next robot. */
+    private final class Line implements CharSequence {
+
+        private final long start;
+        private final int length;
+
+        Line(long start, long end) {
+            this.start = start;
+            this.length = Math.toIntExact(end - start);
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return byteAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return new Line(start + from, start + to);
+        }
+
+        @Override
+        public String toString() {
+            if (length == 0) return "";
+            byte[] bytes = new byte[length];
+            byteAt(start);
+            byteAt(start + length - 1);
+            window.get((int) (start - base), bytes);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
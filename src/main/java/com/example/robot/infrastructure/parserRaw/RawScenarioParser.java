@@ -7,61 +7,53 @@ import com.example.robot.application.port.in.ScenarioCommand;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 /** Parser converting a raw text scenario into a ScenarioCommand. */
 public final class RawScenarioParser {
 
+    // Una o varias líneas vacías (o solo con espacios) separan escenarios; \R atómico para que \r\n sea un solo salto
+    private static final Pattern BLANK_LINES = Pattern.compile("(?>\\R)\\h*(?>\\R)(?:\\h*(?>\\R))*");
+
     private RawScenarioParser() { }
 
     public static ScenarioCommand parse(String raw) {
-        if (raw == null || raw.isBlank()) {
-            throw new IllegalArgumentException("Empty scenario input");
-        }
-        String[] lines = raw.strip().split("\\R+"); // separa por nuevas líneas
-        if (lines.length < 3) throw new IllegalArgumentException("Incomplete scenario");
+        RawScenarioScanner scanner = new RawScenarioScanner(raw);
 
         // 1) Primera línea: grid
-        String[] gridParts = lines[0].trim().split("\\s+");
-        if (gridParts.length != 2) throw new IllegalArgumentException("Invalid grid line");
-        int maxX = parseInt(gridParts[0], "maxX");
-        int maxY = parseInt(gridParts[1], "maxY");
-        GridSize grid = new GridSize(maxX, maxY);
+        GridSize grid = scanner.readGrid();
 
         // 2) Pares (posición, instrucciones)
         List<RobotProgram> programs = new ArrayList<>();
-        int i = 1;
-        while (i < lines.length) {
-            if (i + 1 >= lines.length) throw new IllegalArgumentException("Missing instruction line for robot at line " + (i+1));
-
-            String posLine = lines[i].trim();
-            String cmdLine = lines[i + 1].trim();
-            i += 2;
-
-            String[] pos = posLine.split("\\s+");
-            if (pos.length != 3) throw new IllegalArgumentException("Invalid robot position line: " + posLine);
-
-            int x = parseInt(pos[0], "startX");
-            int y = parseInt(pos[1], "startY");
-            char o = toOrientation(pos[2]);
-
-            String instr = cmdLine.toUpperCase();
-            if (!instr.matches("[LRM]+")) throw new IllegalArgumentException("Invalid instruction string: " + instr);
-
-            programs.add(new RobotProgram(x, y, o, instr));
+        for (RobotProgram p = scanner.next(); p != null; p = scanner.next()) {
+            programs.add(p);
         }
 
         return new ScenarioCommand(grid, programs);
     }
 
-    private static int parseInt(String s, String name) {
-        try { return Integer.parseInt(s); }
-        catch (NumberFormatException e) { throw new IllegalArgumentException("Invalid integer for " + name + ": " + s); }
+    /** Parses the first line of a scenario: {@code "maxX maxY"}. */
+    public static GridSize parseGrid(String line) {
+        return RawScenarioScanner.parseGrid(line);
     }
 
-    private static char toOrientation(String token) {
-        if (token == null || token.isBlank()) throw new IllegalArgumentException("Missing orientation");
-        char c = Character.toUpperCase(token.charAt(0));
-        if ("NESW".indexOf(c) < 0) throw new IllegalArgumentException("Invalid orientation: " + token);
-        return c;
+    /** Parses one robot: its position line ({@code "x y O"}) and its instruction line. */
+    public static RobotProgram parseProgram(String positionLine, String instructionLine) {
+        return RawScenarioScanner.parseProgram(positionLine, instructionLine);
+    }
+
+    /**
+     * Splits a multi-scenario input into its scenarios, separated by one or more blank lines.
+     * Each part is left unparsed, to be handed to {@link #parse(String)}.
+     *
+     * @throws IllegalArgumentException if the input holds no scenario
+     */
+    public static List<String> splitScenarios(String raw) {
+        if (raw == null || raw.isBlank()) throw new IllegalArgumentException("Empty scenario input");
+        List<String> scenarios = new ArrayList<>();
+        for (String part : BLANK_LINES.split(raw)) {
+            if (!part.isBlank()) scenarios.add(part);
+        }
+        return scenarios;
     }
 }
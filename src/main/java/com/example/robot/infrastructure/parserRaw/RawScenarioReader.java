@@ -0,0 +1,139 @@
+package com.example.robot.infrastructure.parserRaw;
+
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.application.port.in.RobotProgram;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+
+/**
+ * Incremental counterpart of {@link RawScenarioParser}: reads a raw text scenario line by
+ * line, so only the current position and instruction lines are held in memory.
+ *
+ * <p>
+ * Lines follow the rules of {@link RawScenarioScanner}, so both accept the same inputs and
+ * report the same errors: the input is stripped, then runs of {@code \R} line terminators
+ * separate lines. A line holding only whitespace inside the input is a line like any
+ * other, and an invalid one.
+ * </p>
+ *
+ * <p>Call {@link #readGrid()} once, then {@link #next()} until it returns {@code null}.</p>
+ */
+public final class RawScenarioReader {
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int bufferPos;
+    private int bufferEnd;
+    private final StringBuilder line = new StringBuilder();
+
+    /** Whitespace read but not handed out yet, and how much of it has been. */
+    private final StringBuilder whitespace = new StringBuilder();
+    private int replay;
+    private boolean started; // a character has been handed out
+
+    /** The two lines after the grid, read ahead by {@link #readGrid()}. */
+    private final ArrayDeque<String> ahead = new ArrayDeque<>(2);
+    private int robots;
+
+    public RawScenarioReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Reads the first line of the scenario. Must be called once, before {@link #next()}.
+     * As with the parser, the scenario must also hold at least one more pair of lines.
+     */
+    public GridSize readGrid() {
+        String grid = nextLine();
+        if (grid == null) throw new IllegalArgumentException("Empty scenario input");
+        String first = nextLine();
+        String second = first == null ? null : nextLine();
+        if (second == null) throw new IllegalArgumentException("Incomplete scenario");
+        ahead.addFirst(second);
+        ahead.addFirst(first);
+        return RawScenarioParser.parseGrid(grid);
+    }
+
+    /**
+     * Reads the next robot.
+     *
+     * @return the next robot program, or {@code null} once the input is exhausted
+     */
+    public RobotProgram next() {
+        String posLine = nextLine();
+        if (posLine == null) return null;
+        String cmdLine = nextLine();
+        if (cmdLine == null) {
+            throw new IllegalArgumentException("Missing instruction line for robot at line " + (2 * robots + 2));
+        }
+        robots++;
+        return RawScenarioParser.parseProgram(posLine, cmdLine);
+    }
+
+    private String nextLine() {
+        return ahead.isEmpty() ? readLine() : ahead.poll();
+    }
+
+    /**
+     * Next non-empty run of characters between line terminators, or {@code null} at the end.
+     * Only the first line may be empty, when the stripped input starts with {@code \u0085},
+     * the one terminator that is not whitespace.
+     */
+    private String readLine() {
+        line.setLength(0);
+        boolean first = !started;
+        for (int c = read(); c >= 0; c = read()) {
+            if (!RawScenarioScanner.isLineBreak((char) c)) {
+                line.append((char) c);
+            } else if (!line.isEmpty() || first) {
+                return line.toString();
+            }
+        }
+        return line.isEmpty() ? null : line.toString();
+    }
+
+    /**
+     * Next character of the stripped input, or -1 at its end: leading whitespace is
+     * skipped, and a run of whitespace is held back until a character follows it.
+     */
+    private int read() {
+        if (replay < whitespace.length()) return whitespace.charAt(replay++);
+        whitespace.setLength(0);
+        replay = 0;
+        int c = readRaw();
+        while (c >= 0 && Character.isWhitespace((char) c)) {
+            if (started) whitespace.append((char) c);
+            c = readRaw();
+        }
+        if (c < 0) {
+            whitespace.setLength(0);
+            return -1;
+        }
+        started = true;
+        if (whitespace.isEmpty()) return c;
+        whitespace.append((char) c);
+        return whitespace.charAt(replay++);
+    }
+
+    private int readRaw() {
+        if (bufferPos == bufferEnd && !fill()) return -1;
+        return buffer[bufferPos++];
+    }
+
+    private boolean fill() {
+        try {
+            int n;
+            do {
+                n = in.read(buffer);
+            } while (n == 0);
+            bufferPos = 0;
+            bufferEnd = Math.max(n, 0);
+            return n > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
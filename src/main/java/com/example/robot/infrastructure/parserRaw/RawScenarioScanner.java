@@ -0,0 +1,223 @@
+package com.example.robot.infrastructure.parserRaw;
+
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.application.port.in.RobotProgram;
+
+/**
+ * Single-pass, regex-free tokenizer for the raw text scenario format.
+ *
+ * <p>
+ * Lines, tokens and numbers are scanned straight from the {@link CharSequence}; the
+ * only allocations per robot are the instruction string and the {@link RobotProgram}.
+ * Instructions are validated through a lookup table.
+ * </p>
+ *
+ * <p>
+ * The input is read with the rules the original regex parser used: the whole input is
+ * stripped, lines are separated by runs of line terminators ({@code \R+}), each line is
+ * trimmed and split on spaces and tabs. Error messages are identical as well.
+ * </p>
+ *
+ * <p>Call {@link #readGrid()} once, then {@link #next()} until it returns {@code null}.</p>
+ */
+public final class RawScenarioScanner {
+
+    private static final byte INVALID = 0;
+    private static final byte UPPER = 1;
+    private static final byte LOWER = 2;
+    private static final byte[] INSTRUCTIONS = new byte[128];
+    private static final char LINE_SEPARATOR = (char) 0x2028;
+    private static final char PARAGRAPH_SEPARATOR = (char) 0x2029;
+
+    static {
+        for (char c : "LRM".toCharArray()) {
+            INSTRUCTIONS[c] = UPPER;
+            INSTRUCTIONS[Character.toLowerCase(c)] = LOWER;
+        }
+    }
+
+    private final CharSequence in;
+    private final int end;
+    private int pos;
+    private int lineNumber;
+    private final int[] tokens = new int[6]; // start/end pairs of the first three tokens
+
+    public RawScenarioScanner(CharSequence in) {
+        int start = 0;
+        int end = in == null ? 0 : in.length();
+        while (start < end && Character.isWhitespace(in.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(in.charAt(end - 1))) end--;
+        if (start == end) throw new IllegalArgumentException("Empty scenario input");
+        this.in = in;
+        this.pos = start;
+        this.end = end;
+    }
+
+    /** Reads the grid line; the scenario must also hold at least one more pair of lines. */
+    public GridSize readGrid() {
+        int gridEnd = lineEnd(pos);
+        int second = skipBreaks(gridEnd);
+        if (second == end || skipBreaks(lineEnd(second)) == end) {
+            throw new IllegalArgumentException("Incomplete scenario");
+        }
+        GridSize grid = grid(in, pos, gridEnd);
+        pos = second;
+        lineNumber = 1;
+        return grid;
+    }
+
+    /**
+     * Reads the next robot.
+     *
+     * @return the next robot program, or {@code null} once the input is exhausted
+     */
+    public RobotProgram next() {
+        if (pos == end) return null;
+        int posEnd = lineEnd(pos);
+        int cmdStart = skipBreaks(posEnd);
+        if (cmdStart == end) {
+            throw new IllegalArgumentException("Missing instruction line for robot at line " + (lineNumber + 1));
+        }
+        int cmdEnd = lineEnd(cmdStart);
+        RobotProgram program = program(in, pos, posEnd, in, cmdStart, cmdEnd, tokens);
+        pos = skipBreaks(cmdEnd);
+        lineNumber += 2;
+        return program;
+    }
+
+    /** Parses a single grid line: {@code "maxX maxY"}. */
+    public static GridSize parseGrid(CharSequence line) {
+        return grid(line, 0, line.length());
+    }
+
+    /** Parses a single robot: its position line ({@code "x y O"}) and its instruction line. */
+    public static RobotProgram parseProgram(CharSequence positionLine, CharSequence instructionLine) {
+        return program(positionLine, 0, positionLine.length(), instructionLine, 0, instructionLine.length(), new int[6]);
+    }
+
+    private static GridSize grid(CharSequence s, int from, int to) {
+        int[] t = new int[6];
+        if (split(s, from, to, t) != 2) throw new IllegalArgumentException("Invalid grid line");
+        int maxX = parseInt(s, t[0], t[1], "maxX");
+        int maxY = parseInt(s, t[2], t[3], "maxY");
+        return new GridSize(maxX, maxY);
+    }
+
+    private static RobotProgram program(CharSequence pos, int posFrom, int posTo,
+                                        CharSequence cmd, int cmdFrom, int cmdTo, int[] t) {
+        if (split(pos, posFrom, posTo, t) != 3) {
+            throw new IllegalArgumentException("Invalid robot position line: " + trimmed(pos, posFrom, posTo));
+        }
+        int x = parseInt(pos, t[0], t[1], "startX");
+        int y = parseInt(pos, t[2], t[3], "startY");
+        char o = Character.toUpperCase(pos.charAt(t[4]));
+        if ("NESW".indexOf(o) < 0) {
+            throw new IllegalArgumentException("Invalid orientation: " + pos.subSequence(t[4], t[5]));
+        }
+        return new RobotProgram(x, y, o, instructions(cmd, cmdFrom, cmdTo));
+    }
+
+    /** Trimmed instruction line, upper-cased, validated against the lookup table. */
+    private static String instructions(CharSequence s, int from, int to) {
+        while (from < to && s.charAt(from) <= ' ') from++;
+        while (to > from && s.charAt(to - 1) <= ' ') to--;
+
+        byte seen = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            byte kind = c < 128 ? INSTRUCTIONS[c] : INVALID;
+            if (kind == INVALID) {
+                seen = INVALID;
+                break;
+            }
+            seen |= kind;
+        }
+        if (seen == INVALID) {
+            throw new IllegalArgumentException("Invalid instruction string: " + s.subSequence(from, to).toString().toUpperCase());
+        }
+        if ((seen & LOWER) == 0) {
+            return s.subSequence(from, to).toString();
+        }
+        char[] upper = new char[to - from];
+        for (int i = from; i < to; i++) {
+            upper[i - from] = (char) (s.charAt(i) & ~0x20); // ASCII letters only at this point
+        }
+        return new String(upper);
+    }
+
+    /**
+     * Trims {@code [from, to)} and splits it on runs of spaces and tabs, writing the bounds
+     * of the first {@code t.length / 2} tokens into {@code t}.
+     *
+     * @return the total number of tokens
+     */
+    private static int split(CharSequence s, int from, int to, int[] t) {
+        while (from < to && s.charAt(from) <= ' ') from++;
+        while (to > from && s.charAt(to - 1) <= ' ') to--;
+        if (from == to) return 1; // "".split(...) yields one empty token
+
+        int count = 0;
+        int i = from;
+        while (i < to) {
+            int start = i;
+            while (i < to && !isSeparator(s.charAt(i))) i++;
+            if (2 * count + 1 < t.length) {
+                t[2 * count] = start;
+                t[2 * count + 1] = i;
+            }
+            count++;
+            while (i < to && isSeparator(s.charAt(i))) i++;
+        }
+        return count;
+    }
+
+    /** Integer token, ASCII fast path; anything unusual goes through {@link Integer#parseInt}. */
+    private static int parseInt(CharSequence s, int from, int to, String name) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+        if (i < to && to - i <= 9) {
+            int value = 0;
+            for (; i < to; i++) {
+                int d = s.charAt(i) - '0';
+                if (d < 0 || d > 9) break;
+                value = value * 10 + d;
+            }
+            if (i == to) return negative ? -value : value;
+        }
+        String token = s.subSequence(from, to).toString();
+        try { return Integer.parseInt(token); }
+        catch (NumberFormatException e) { throw new IllegalArgumentException("Invalid integer for " + name + ": " + token); }
+    }
+
+    private static String trimmed(CharSequence s, int from, int to) {
+        while (from < to && s.charAt(from) <= ' ') from++;
+        while (to > from && s.charAt(to - 1) <= ' ') to--;
+        return s.subSequence(from, to).toString();
+    }
+
+    private int lineEnd(int from) {
+        int i = from;
+        while (i < end && !isLineBreak(in.charAt(i))) i++;
+        return i;
+    }
+
+    private int skipBreaks(int from) {
+        int i = from;
+        while (i < end && isLineBreak(in.charAt(i))) i++;
+        return i;
+    }
+
+    /** Separators left inside a line by {@code \s+} once line terminators are gone. */
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    /** The characters matched by {@code \R}; {@link RawScenarioReader} splits lines on them too. */
+    static boolean isLineBreak(char c) {
+        return (c >= '\n' && c <= '\r') || c == '\u0085' || c == LINE_SEPARATOR || c == PARAGRAPH_SEPARATOR;
+    }
+}
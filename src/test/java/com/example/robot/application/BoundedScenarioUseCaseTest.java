@@ -0,0 +1,114 @@
+package com.example.robot.application;
+
+import com.example.robot.application.port.in.*;
+import com.example.robot.application.service.BoundedScenarioUseCase;
+import com.example.robot.application.service.RobotScenarioService;
+import com.example.robot.domain.IgnorePolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Admission control: small scenarios run inline, large ones are queued or rejected. */
+public class BoundedScenarioUseCaseTest {
+
+    /** Delegate under test: processes scenarios; inspections and streams are not used here. */
+    private interface Engine extends ProcessScenarioUseCase, InspectScenarioUseCase, StreamScenarioUseCase {
+        @Override
+        default ScenarioInspection inspect(ScenarioCommand command, InspectionOptions options) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        default ScenarioRun open(GridSize grid) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final ScenarioCommand SMALL = new ScenarioCommand(
+            new GridSize(5, 5), List.of(new RobotProgram(1, 2, 'N', "MM")));
+    private static final ScenarioCommand LARGE = new ScenarioCommand(
+            new GridSize(5, 5), List.of(new RobotProgram(1, 2, 'N', "MMMMMMMMMM")));
+    private static final ScenarioResult RESULT = new ScenarioResult(List.of(new FinalState(1, 4, 'N')));
+
+    @Test
+    void rejects_large_scenarios_when_the_queue_is_full_but_still_runs_small_ones() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Engine blocking = cmd -> {
+            if (cmd == LARGE) {
+                started.countDown();
+                await(release);
+            }
+            return RESULT;
+        };
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        BoundedScenarioUseCase useCase = new BoundedScenarioUseCase(blocking, pool, 5);
+        ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            Future<ScenarioResult> running = callers.submit(() -> useCase.process(LARGE));
+            started.await();
+            Future<ScenarioResult> queued = callers.submit(() -> useCase.process(LARGE));
+            while (pool.getQueue().isEmpty()) Thread.onSpinWait();
+
+            assertThrows(ScenarioRejectedException.class, () -> useCase.process(LARGE));
+            assertSame(RESULT, useCase.process(SMALL));
+
+            release.countDown();
+            assertSame(RESULT, running.get());
+            assertSame(RESULT, queued.get());
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            useCase.close();
+        }
+    }
+
+    @Test
+    void failures_on_the_pool_reach_the_caller_unchanged() {
+        Engine failing = cmd -> { throw new IllegalArgumentException("boom"); };
+        BoundedScenarioUseCase useCase = new BoundedScenarioUseCase(failing, new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy()), 0);
+        try {
+            assertEquals("boom", assertThrows(IllegalArgumentException.class, () -> useCase.process(LARGE)).getMessage());
+        } finally {
+            useCase.close();
+        }
+    }
+
+    @Test
+    void streamed_runs_are_admitted_once_when_opened_and_then_never_refused() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        BoundedScenarioUseCase useCase = new BoundedScenarioUseCase(new RobotScenarioService(new IgnorePolicy()), pool, 5);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            ScenarioRun run = useCase.open(new GridSize(5, 5));
+
+            pool.execute(() -> await(release)); // worker busy
+            pool.execute(() -> await(release)); // queue full
+            assertThrows(ScenarioRejectedException.class, () -> useCase.open(new GridSize(5, 5)));
+
+            // The run opened before keeps going on the caller, past the inline limit and with the pool full
+            assertEquals(new FinalState(1, 4, 'N'), run.execute(new RobotProgram(1, 2, 'N', "MM")));
+            assertEquals(new FinalState(5, 3, 'E'), run.execute(new RobotProgram(3, 3, 'E', "MMMM")));
+            assertEquals(new FinalState(4, 4, 'N'), run.execute(new RobotProgram(4, 3, 'N', "M")));
+            assertTrue(run.isOccupied(1, 4));
+            assertEquals(2, pool.getTaskCount());
+        } finally {
+            release.countDown();
+            useCase.close();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.robot.application;
+
+import com.example.robot.application.port.in.*;
+import com.example.robot.application.service.CachingScenarioUseCase;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Result cache: repeats skip the delegate, bounds evict least recently used entries. */
+public class CachingScenarioUseCaseTest {
+
+    /** Delegate under test: processes scenarios; inspections and streams are not used here. */
+    private interface Engine extends ProcessScenarioUseCase, InspectScenarioUseCase, StreamScenarioUseCase {
+        @Override
+        default ScenarioInspection inspect(ScenarioCommand command, InspectionOptions options) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        default ScenarioRun open(GridSize grid) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Engine counting = cmd -> {
+        calls.incrementAndGet();
+        return new ScenarioResult(List.of(new FinalState(cmd.programs().size(), calls.get(), 'N')));
+    };
+
+    private static ScenarioCommand scenario(String instructions) {
+        return new ScenarioCommand(new GridSize(5, 5), List.of(new RobotProgram(1, 2, 'N', instructions)));
+    }
+
+    @Test
+    void repeats_are_answered_from_the_cache_whatever_the_case() {
+        CachingScenarioUseCase cache = new CachingScenarioUseCase(counting, 16, 1 << 20, 1 << 20);
+
+        ScenarioResult first = cache.process(scenario("LMLMLMLMM"));
+        List<RobotProgram> lower = new ArrayList<>(List.of(new RobotProgram(1, 2, 'n', "lmlmlmlmm")));
+        ScenarioResult second = cache.process(new ScenarioCommand(new GridSize(5, 5), lower));
+
+        assertEquals(first, second);
+        assertEquals(1, calls.get());
+        assertEquals(new ScenarioCacheStats(1, 1, 0, 0, 1, cache.stats().bytes()), cache.stats());
+    }
+
+    @Test
+    void different_scenarios_are_not_confused() {
+        CachingScenarioUseCase cache = new CachingScenarioUseCase(counting, 16, 1 << 20, 1 << 20);
+
+        cache.process(scenario("MM"));
+        cache.process(scenario("MR"));
+        cache.process(new ScenarioCommand(new GridSize(5, 6), List.of(new RobotProgram(1, 2, 'N', "MM"))));
+
+        assertEquals(3, calls.get());
+        assertEquals(3, cache.stats().entries());
+    }
+
+    @Test
+    void evicts_the_least_recently_used_entry_beyond_max_entries() {
+        CachingScenarioUseCase cache = new CachingScenarioUseCase(counting, 2, 1 << 20, 1 << 20);
+
+        cache.process(scenario("M"));
+        cache.process(scenario("L"));
+        cache.process(scenario("M")); // M is now the most recent
+        cache.process(scenario("R")); // evicts L
+
+        cache.process(scenario("M"));
+        assertEquals(3, calls.get());
+        cache.process(scenario("L"));
+        assertEquals(4, calls.get());
+        assertEquals(2, cache.stats().evictions());
+    }
+
+    @Test
+    void evicts_to_stay_within_max_bytes_and_skips_oversized_entries() {
+        CachingScenarioUseCase cache = new CachingScenarioUseCase(counting, 16, 600, 300);
+
+        cache.process(scenario("M".repeat(100)));
+        cache.process(scenario("L".repeat(100)));
+        cache.process(scenario("R".repeat(100)));
+        assertTrue(cache.stats().bytes() <= 600);
+        assertEquals(1, cache.stats().evictions());
+
+        cache.process(scenario("M".repeat(1000)));
+        cache.process(scenario("M".repeat(1000)));
+        assertEquals(5, calls.get());
+        assertEquals(2, cache.stats().skipped());
+    }
+
+    @Test
+    void failures_are_not_cached() {
+        AtomicInteger attempts = new AtomicInteger();
+        CachingScenarioUseCase cache = new CachingScenarioUseCase((Engine) cmd -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("boom");
+        }, 16, 1 << 20, 1 << 20);
+
+        assertThrows(IllegalArgumentException.class, () -> cache.process(scenario("M")));
+        assertThrows(IllegalArgumentException.class, () -> cache.process(scenario("M")));
+        assertEquals(2, attempts.get());
+        assertEquals(0, cache.stats().entries());
+    }
+
+    @Test
+    void inspections_go_to_the_delegate_every_time() {
+        ScenarioInspection inspection = new ScenarioInspection(List.of(), null, null);
+        class Inspecting implements Engine {
+            @Override
+            public ScenarioResult process(ScenarioCommand command) {
+                throw new AssertionError("not processed");
+            }
+
+            @Override
+            public ScenarioInspection inspect(ScenarioCommand command, InspectionOptions options) {
+                calls.incrementAndGet();
+                return inspection;
+            }
+        }
+        CachingScenarioUseCase cache = new CachingScenarioUseCase(new Inspecting(), 16, 1 << 20, 1 << 20);
+
+        assertSame(inspection, cache.inspect(scenario("M"), new InspectionOptions(true, false, false)));
+        assertSame(inspection, cache.inspect(scenario("M"), new InspectionOptions(true, false, false)));
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.stats().entries());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.robot.application;
+
+import com.example.robot.application.port.in.*;
+import com.example.robot.application.service.ExecutionMode;
+import com.example.robot.application.service.RobotScenarioService;
+import com.example.robot.application.service.ScenarioExecutionSettings;
+import com.example.robot.domain.IgnorePolicy;
+import com.example.robot.domain.exception.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** The parallel schedulers must reproduce the sequential finals exactly. */
+public class ParallelScenarioExecutionTest {
+
+    private static final ScenarioExecutionSettings SEQUENTIAL = ScenarioExecutionSettings.defaults();
+
+    @Test
+    void parallel_mode_matches_sequential_on_crowded_grid() {
+        assertSameAsSequential(ExecutionMode.PARALLEL, randomScenario(new Random(1), 15, 2_000, 25));
+    }
+
+    @Test
+    void parallel_mode_matches_sequential_on_sparse_grid() {
+        assertSameAsSequential(ExecutionMode.PARALLEL, randomScenario(new Random(2), 5_000, 3_000, 40));
+    }
+
+    @Test
+    void speculative_mode_matches_sequential_on_crowded_grid() {
+        assertSameAsSequential(ExecutionMode.SPECULATIVE, randomScenario(new Random(4), 15, 2_000, 25));
+    }
+
+    @Test
+    void speculative_mode_matches_sequential_on_sparse_grid() {
+        assertSameAsSequential(ExecutionMode.SPECULATIVE, randomScenario(new Random(5), 5_000, 3_000, 40));
+    }
+
+    /** Long straight runs on a tiny grid: every trace collides and many hit the segment cap. */
+    @Test
+    void speculative_mode_matches_sequential_with_long_programs() {
+        assertSameAsSequential(ExecutionMode.SPECULATIVE, randomScenario(new Random(6), 6, 300, 20_000));
+    }
+
+    @Test
+    void parallel_mode_reports_the_first_invalid_robot() {
+        List<RobotProgram> programs = new ArrayList<>(randomScenario(new Random(3), 10, 50, 5).programs());
+        programs.set(20, new RobotProgram(99, 0, 'N', "M"));
+        programs.set(30, new RobotProgram(0, 0, 'X', "M"));
+        ScenarioCommand cmd = new ScenarioCommand(new GridSize(10, 10), programs);
+
+        ProcessScenarioUseCase parallel = new RobotScenarioService(new IgnorePolicy(),
+                SEQUENTIAL.withMode(ExecutionMode.PARALLEL).withParallelMinRobots(0));
+
+        assertThrows(DomainException.class, () -> parallel.process(cmd));
+    }
+
+    static void assertSameAsSequential(ExecutionMode mode, ScenarioCommand cmd) {
+        ScenarioResult expected = new RobotScenarioService(new IgnorePolicy(), SEQUENTIAL).process(cmd);
+        ScenarioResult actual = new RobotScenarioService(new IgnorePolicy(),
+                SEQUENTIAL.withMode(mode).withParallelMinRobots(0)).process(cmd);
+        assertEquals(expected, actual);
+    }
+
+    static ScenarioCommand randomScenario(Random rnd, int side, int robots, int maxLength) {
+        List<RobotProgram> programs = new ArrayList<>(robots);
+        for (int i = 0; i < robots; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int k = 0, n = 1 + rnd.nextInt(maxLength); k < n; k++) sb.append("LRMMM".charAt(rnd.nextInt(5)));
+            programs.add(new RobotProgram(rnd.nextInt(side + 1), rnd.nextInt(side + 1),
+                    "NESW".charAt(rnd.nextInt(4)), sb.toString()));
+        }
+        return new ScenarioCommand(new GridSize(side, side), programs);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.robot.application;
+
+import com.example.robot.application.port.in.FinalState;
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.application.port.in.RobotProgram;
+import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.application.service.ReactiveScenarioService;
+import com.example.robot.application.service.RobotScenarioService;
+import com.example.robot.domain.IgnorePolicy;
+import com.example.robot.domain.exception.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Flow-based scenarios: same results as the batch service, demand passed upstream, failures. */
+public class ReactiveScenarioServiceTest {
+
+    private final RobotScenarioService service = new RobotScenarioService(new IgnorePolicy());
+    private final ReactiveScenarioService reactive = new ReactiveScenarioService(service);
+
+    @Test
+    void results_match_the_sequential_service() throws Exception {
+        List<RobotProgram> programs = List.of(
+                new RobotProgram(1, 2, 'N', "LMLMLMLMM"),
+                new RobotProgram(3, 3, 'E', "MMRMMRMRRM"),
+                new RobotProgram(1, 1, 'N', "MM"),   // stops below the first robot at (1, 3)
+                new RobotProgram(0, 0, 'E', "MMMMMMMM"));
+        GridSize grid = new GridSize(5, 5);
+
+        Collector results = new Collector(Long.MAX_VALUE);
+        try (SubmissionPublisher<RobotProgram> publisher = new SubmissionPublisher<>()) {
+            reactive.process(grid, publisher).subscribe(results);
+            programs.forEach(publisher::submit);
+        }
+
+        assertTrue(results.await());
+        assertNull(results.error);
+        assertEquals(service.process(new ScenarioCommand(grid, programs)).finals(), results.items);
+    }
+
+    @Test
+    void programs_are_requested_only_as_results_are() {
+        ListPublisher programs = new ListPublisher(List.of(
+                new RobotProgram(0, 0, 'N', "M"),
+                new RobotProgram(1, 1, 'E', "M"),
+                new RobotProgram(2, 2, 'S', "M")));
+        Collector results = new Collector(1);
+
+        reactive.process(new GridSize(5, 5), programs).subscribe(results);
+        assertEquals(1, programs.requested);
+        assertEquals(List.of(new FinalState(0, 1, 'N')), results.items);
+
+        results.subscription.request(2);
+        assertEquals(3, programs.requested);
+        assertEquals(3, results.items.size());
+        assertTrue(results.completed);
+    }
+
+    @Test
+    void failing_robot_cancels_the_programs_and_ends_with_its_error() {
+        ListPublisher programs = new ListPublisher(List.of(
+                new RobotProgram(0, 0, 'N', "M"),
+                new RobotProgram(9, 9, 'N', "M"),   // outside the grid
+                new RobotProgram(1, 1, 'N', "M")));
+        Collector results = new Collector(Long.MAX_VALUE);
+
+        reactive.process(new GridSize(5, 5), programs).subscribe(results);
+
+        assertEquals(1, results.items.size());
+        assertInstanceOf(DomainException.class, results.error);
+        assertTrue(programs.cancelled);
+        assertFalse(results.completed);
+    }
+
+    /** Publishes a fixed list, synchronously, exactly as far as it is asked to. */
+    private static final class ListPublisher implements Flow.Publisher<RobotProgram> {
+        private final List<RobotProgram> items;
+        long requested;
+        boolean cancelled;
+
+        ListPublisher(List<RobotProgram> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super RobotProgram> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private int next;
+
+                @Override
+                public void request(long n) {
+                    requested += n;
+                    while (!cancelled && next < items.size() && next < requested) {
+                        subscriber.onNext(items.get(next++));
+                    }
+                    if (!cancelled && next == items.size()) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    /** Requests {@code initial} results on subscription and records the signals. */
+    private static final class Collector implements Flow.Subscriber<FinalState> {
+        private final long initial;
+        private final CountDownLatch done = new CountDownLatch(1);
+        final List<FinalState> items = new ArrayList<>();
+        Flow.Subscription subscription;
+        volatile Throwable error;
+        volatile boolean completed;
+
+        Collector(long initial) {
+            this.initial = initial;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initial);
+        }
+
+        @Override
+        public void onNext(FinalState item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            done.countDown();
+        }
+
+        boolean await() throws InterruptedException {
+            return done.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -2,12 +2,17 @@ package com.example.robot.application;
 
 
 import com.example.robot.application.port.in.*;
+import com.example.robot.application.service.ProgramMemo;
 import com.example.robot.application.service.RobotScenarioService;
+import com.example.robot.application.service.ScenarioExecutionSettings;
 import com.example.robot.domain.IgnorePolicy;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /** Application-level test: verifies orchestration with the sample scenario. */
 public class RobotScenarioServiceTest {
@@ -36,4 +41,93 @@ public class RobotScenarioServiceTest {
         assertEquals('E', result.finals().get(1).orientation());
     }
 
+    /** The bitset occupancy (small grids) must give the same finals as the hash set one. */
+    @Test
+    void advance_to_the_edge_of_a_maximal_grid_terminates() {
+        ProcessScenarioUseCase useCase = new RobotScenarioService(new IgnorePolicy());
+        ScenarioCommand cmd = new ScenarioCommand(
+                new GridSize(Integer.MAX_VALUE, Integer.MAX_VALUE),
+                List.of(
+                        new RobotProgram(6, 6, 'N', "L"),
+                        new RobotProgram(5, 5, 'N', "L"),
+                        new RobotProgram(Integer.MAX_VALUE - 2, 0, 'E', "MM")
+                )
+        );
+
+        ScenarioResult result = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> useCase.process(cmd));
+
+        assertEquals(new FinalState(Integer.MAX_VALUE, 0, 'E'), result.finals().get(2));
+    }
+
+    @Test
+    void dense_and_set_occupancy_give_identical_results() {
+        Random rnd = new Random(3);
+        List<RobotProgram> programs = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int k = 0; k < 30; k++) sb.append("LRMM".charAt(rnd.nextInt(4)));
+            programs.add(new RobotProgram(rnd.nextInt(21), rnd.nextInt(21), "NESW".charAt(rnd.nextInt(4)), sb.toString()));
+        }
+        ScenarioCommand cmd = new ScenarioCommand(new GridSize(20, 20), programs);
+
+        ScenarioResult dense = new RobotScenarioService(new IgnorePolicy()).process(cmd);
+        ScenarioResult set = new RobotScenarioService(new IgnorePolicy(), 0).process(cmd);
+
+        assertEquals(set, dense);
+    }
+
+    /** Memoized runs must give the finals of plain simulation, across repeated scenarios. */
+    @Test
+    void program_memo_gives_identical_results_across_scenarios() {
+        ProgramMemo memo = new ProgramMemo(1024, 1 << 20, 4);
+        RobotScenarioService memoized = new RobotScenarioService(new IgnorePolicy(), ScenarioExecutionSettings.defaults(), memo);
+        RobotScenarioService plain = new RobotScenarioService(new IgnorePolicy());
+
+        Random rnd = new Random(5);
+        List<RobotProgram> routes = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int k = 0; k < 12; k++) sb.append("LRMM".charAt(rnd.nextInt(4)));
+            routes.add(new RobotProgram(rnd.nextInt(31), rnd.nextInt(31), "NESW".charAt(rnd.nextInt(4)), sb.toString()));
+        }
+        for (int scenario = 0; scenario < 20; scenario++) {
+            List<RobotProgram> programs = new ArrayList<>();
+            for (int i = 0; i < 25; i++) programs.add(routes.get(rnd.nextInt(routes.size())));
+            ScenarioCommand cmd = new ScenarioCommand(new GridSize(30, 30), programs);
+
+            assertEquals(plain.process(cmd), memoized.process(cmd));
+        }
+        assertTrue(memo.size() > 0);
+    }
+
+    /** A memoized route is simulated again once another robot sits in its way. */
+    @Test
+    void program_memo_is_bypassed_when_a_robot_is_in_the_way() {
+        ProgramMemo memo = new ProgramMemo(16, 1 << 20, 1);
+        RobotScenarioService service = new RobotScenarioService(new IgnorePolicy(), ScenarioExecutionSettings.defaults(), memo);
+        RobotProgram route = new RobotProgram(0, 0, 'N', "MMMM");
+
+        ScenarioResult alone = service.process(new ScenarioCommand(new GridSize(5, 5), List.of(route)));
+        ScenarioResult blocked = service.process(new ScenarioCommand(new GridSize(5, 5),
+                List.of(new RobotProgram(0, 3, 'E', "L"), route)));
+
+        assertEquals(new FinalState(0, 4, 'N'), alone.finals().get(0));
+        assertEquals(new FinalState(0, 2, 'N'), blocked.finals().get(1));
+        assertEquals(2, memo.size()); // the route and the blocking robot, each run once on a free region
+    }
+
+    /** The memo keys programs by their parsed form, so spelling them in lower case still hits. */
+    @Test
+    void program_memo_ignores_the_case_of_instructions() {
+        ProgramMemo memo = new ProgramMemo(16, 1 << 20, 1);
+        RobotScenarioService service = new RobotScenarioService(new IgnorePolicy(), ScenarioExecutionSettings.defaults(), memo);
+
+        ScenarioResult upper = service.process(new ScenarioCommand(new GridSize(5, 5),
+                List.of(new RobotProgram(1, 2, 'N', "LMLMLMLMM"))));
+        ScenarioResult lower = service.process(new ScenarioCommand(new GridSize(5, 5),
+                List.of(new RobotProgram(1, 2, 'n', "lmlmlmlmm"))));
+
+        assertEquals(upper, lower);
+        assertEquals(1, memo.size());
+    }
 }
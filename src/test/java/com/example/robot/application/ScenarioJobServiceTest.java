@@ -0,0 +1,107 @@
+package com.example.robot.application;
+
+import com.example.robot.application.port.in.*;
+import com.example.robot.application.service.RobotScenarioService;
+import com.example.robot.application.service.ScenarioJobService;
+import com.example.robot.domain.IgnorePolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Background jobs: outcome, failure reporting, admission limit and expiry. */
+public class ScenarioJobServiceTest {
+
+    private static final ScenarioCommand SAMPLE = new ScenarioCommand(
+            new GridSize(5, 5),
+            List.of(
+                    new RobotProgram(1, 2, 'N', "LMLMLMLMM"),
+                    new RobotProgram(3, 3, 'E', "MMRMMRMRRM")
+            ));
+
+    private final MutableClock clock = new MutableClock();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final ScenarioJobService jobs = new ScenarioJobService(
+            new RobotScenarioService(new IgnorePolicy()), executor, 2, Duration.ofMinutes(15), clock);
+
+    @AfterEach
+    void close() {
+        jobs.close();
+    }
+
+    @Test
+    void job_succeeds_with_the_same_finals_as_the_service() {
+        ScenarioJob submitted = jobs.submit(SAMPLE);
+        assertEquals(2, submitted.total());
+
+        ScenarioJob done = awaitFinished(submitted.id());
+
+        assertEquals(JobStatus.SUCCEEDED, done.status());
+        assertEquals(2, done.completed());
+        assertEquals(List.of(new FinalState(1, 3, 'N'), new FinalState(5, 1, 'E')),
+                List.copyOf(jobs.result(submitted.id()).orElseThrow()));
+    }
+
+    @Test
+    void invalid_robot_fails_the_job_and_keeps_the_progress_made() {
+        ScenarioCommand cmd = new ScenarioCommand(new GridSize(5, 5), List.of(
+                new RobotProgram(1, 2, 'N', "M"),
+                new RobotProgram(1, 2, 'N', "MXM")));
+
+        ScenarioJob done = awaitFinished(jobs.submit(cmd).id());
+
+        assertEquals(JobStatus.FAILED, done.status());
+        assertEquals(1, done.completed());
+        assertNotNull(done.error());
+        assertTrue(jobs.result(done.id()).isEmpty());
+    }
+
+    @Test
+    void finished_jobs_expire_after_the_ttl() {
+        String id = awaitFinished(jobs.submit(SAMPLE).id()).id();
+
+        clock.advance(Duration.ofMinutes(14));
+        assertTrue(jobs.find(id).isPresent());
+
+        clock.advance(Duration.ofMinutes(2));
+        assertTrue(jobs.find(id).isEmpty());
+    }
+
+    @Test
+    void rejects_jobs_beyond_the_active_limit() throws Exception {
+        executor.submit(() -> { Thread.sleep(200); return null; }); // keep the single worker busy
+        jobs.submit(SAMPLE);
+        jobs.submit(SAMPLE);
+
+        assertThrows(ScenarioRejectedException.class, () -> jobs.submit(SAMPLE));
+    }
+
+    private ScenarioJob awaitFinished(String id) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            ScenarioJob job = jobs.find(id).orElseThrow();
+            if (job.status() == JobStatus.SUCCEEDED || job.status() == JobStatus.FAILED) return job;
+            Thread.onSpinWait();
+        }
+        return fail("job " + id + " did not finish");
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration d) { now = now.plus(d); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+}
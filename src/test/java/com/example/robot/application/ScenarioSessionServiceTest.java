@@ -0,0 +1,95 @@
+package com.example.robot.application;
+
+import com.example.robot.application.port.in.*;
+import com.example.robot.application.service.RobotScenarioService;
+import com.example.robot.application.service.ScenarioSessionService;
+import com.example.robot.domain.IgnorePolicy;
+import com.example.robot.domain.exception.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Sessions: appends match a whole scenario, occupancy queries, limit and idle eviction. */
+public class ScenarioSessionServiceTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final RobotScenarioService service = new RobotScenarioService(new IgnorePolicy());
+    private final ScenarioSessionService sessions = new ScenarioSessionService(service, 2, Duration.ofMinutes(10), clock);
+
+    @Test
+    void appends_give_the_same_finals_as_one_whole_scenario() {
+        List<RobotProgram> programs = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            programs.add(new RobotProgram(i % 6, (i * 7) % 6, "NESW".charAt(i % 4), "MMRMLMMLMRM".substring(i % 5)));
+        }
+        GridSize grid = new GridSize(5, 5);
+        ScenarioSession session = sessions.create(grid);
+
+        List<FinalState> appended = new ArrayList<>();
+        for (int from = 0; from < programs.size(); from += 3) {
+            appended.addAll(sessions.append(session.id(), programs.subList(from, Math.min(from + 3, programs.size()))).orElseThrow());
+        }
+
+        List<FinalState> expected = service.process(new ScenarioCommand(grid, programs)).finals();
+        assertEquals(expected, appended);
+        assertEquals(expected, List.copyOf(sessions.finals(session.id()).orElseThrow()));
+        assertEquals(40, sessions.find(session.id()).orElseThrow().robots());
+    }
+
+    @Test
+    void occupancy_reflects_the_placed_robots() {
+        String id = sessions.create(new GridSize(5, 5)).id();
+        sessions.append(id, List.of(new RobotProgram(1, 2, 'N', "LMLMLMLMM")));
+
+        assertEquals(true, sessions.isOccupied(id, 1, 3).orElseThrow());
+        assertEquals(false, sessions.isOccupied(id, 1, 2).orElseThrow());
+        assertThrows(IllegalArgumentException.class, () -> sessions.isOccupied(id, 6, 0));
+        assertTrue(sessions.isOccupied("unknown", 0, 0).isEmpty());
+    }
+
+    @Test
+    void failing_robot_keeps_the_robots_placed_before_it() {
+        String id = sessions.create(new GridSize(5, 5)).id();
+
+        assertThrows(DomainException.class, () -> sessions.append(id, List.of(
+                new RobotProgram(0, 0, 'N', "M"),
+                new RobotProgram(9, 9, 'N', "M"))));
+
+        assertEquals(List.of(new FinalState(0, 1, 'N')), List.copyOf(sessions.finals(id).orElseThrow()));
+    }
+
+    @Test
+    void sessions_are_limited_and_idle_ones_evicted() {
+        String first = sessions.create(new GridSize(5, 5)).id();
+        clock.advance(Duration.ofMinutes(6));
+        String second = sessions.create(new GridSize(5, 5)).id();
+        assertThrows(ScenarioRejectedException.class, () -> sessions.create(new GridSize(5, 5)));
+
+        clock.advance(Duration.ofMinutes(6)); // first idle for 12 minutes, second for 6
+        assertTrue(sessions.find(first).isEmpty());
+        assertTrue(sessions.find(second).isPresent());
+
+        assertTrue(sessions.close(second));
+        assertFalse(sessions.close(second));
+        sessions.create(new GridSize(5, 5));
+        sessions.create(new GridSize(5, 5));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration d) { now = now.plus(d); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+}
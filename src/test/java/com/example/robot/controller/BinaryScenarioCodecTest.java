@@ -0,0 +1,79 @@
+package com.example.robot.controller;
+
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.application.port.in.RobotProgram;
+import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.infrastructure.codec.BinaryScenarioCodec;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** The binary decoder accepts exactly what a valid {@code ScenarioRequest} would hold. */
+class BinaryScenarioCodecTest {
+
+    private static final ScenarioCommand VALID = new ScenarioCommand(new GridSize(5, 5), List.of(
+            new RobotProgram(1, 2, 'N', "LMLMLMLMM"), new RobotProgram(3, 3, 'E', "MMRMMRMRRM")));
+
+    @Test
+    void decodes_what_it_encodes() {
+        BinaryScenarioCodec.Decoder decoder = decoder(BinaryScenarioCodec.encode(VALID));
+        assertEquals(new GridSize(5, 5), decoder.grid());
+        assertEquals(2, decoder.robots());
+        assertEquals(9, decoder.next().instructions().size());
+        assertEquals(10, decoder.next().instructions().size());
+        assertFalse(decoder.hasNext());
+    }
+
+    @Test
+    void rejects_a_scenario_without_robots() {
+        byte[] empty = BinaryScenarioCodec.encode(new ScenarioCommand(new GridSize(5, 5), List.of()));
+        assertEquals("programs: size must be at least 1",
+                assertThrows(IllegalArgumentException.class, () -> decoder(empty).grid()).getMessage());
+    }
+
+    @Test
+    void rejects_a_robot_without_instructions() {
+        byte[] blank = BinaryScenarioCodec.encode(new ScenarioCommand(new GridSize(5, 5), List.of(
+                new RobotProgram(1, 2, 'N', "M"), new RobotProgram(3, 3, 'E', ""))));
+        BinaryScenarioCodec.Decoder decoder = decoder(blank);
+        decoder.next();
+        assertEquals("programs[1].instructions: must not be blank",
+                assertThrows(IllegalArgumentException.class, decoder::next).getMessage());
+    }
+
+    @Test
+    void rejects_an_instruction_code_outside_l_r_m() {
+        byte[] encoded = BinaryScenarioCodec.encode(new ScenarioCommand(new GridSize(5, 5), List.of(
+                new RobotProgram(1, 2, 'N', "MM"))));
+        encoded[encoded.length - 1] |= 0b11; // first code becomes 3
+        assertEquals("programs[0].instructions: instructions must contain only L,R,M",
+                assertThrows(IllegalArgumentException.class, () -> decoder(encoded).next()).getMessage());
+    }
+
+    @Test
+    void rejects_bytes_after_the_last_robot() {
+        byte[] encoded = BinaryScenarioCodec.encode(VALID);
+        byte[] trailing = Arrays.copyOf(encoded, encoded.length + 1);
+        BinaryScenarioCodec.Decoder decoder = decoder(trailing);
+        decoder.next();
+        assertEquals("Unexpected content after the scenario",
+                assertThrows(IllegalArgumentException.class, decoder::next).getMessage());
+    }
+
+    @Test
+    void rejects_a_truncated_scenario() {
+        byte[] encoded = BinaryScenarioCodec.encode(VALID);
+        BinaryScenarioCodec.Decoder decoder = decoder(Arrays.copyOf(encoded, encoded.length - 1));
+        decoder.next();
+        assertEquals("Truncated binary scenario",
+                assertThrows(IllegalArgumentException.class, decoder::next).getMessage());
+    }
+
+    private static BinaryScenarioCodec.Decoder decoder(byte[] bytes) {
+        return new BinaryScenarioCodec.Decoder(new ByteArrayInputStream(bytes));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.robot.controller;
+
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.application.port.in.RobotProgram;
+import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.application.service.RobotScenarioService;
+import com.example.robot.domain.IgnorePolicy;
+import com.example.robot.infrastructure.batch.ScenarioBatchRunner;
+import com.example.robot.infrastructure.parserRaw.MappedScenarioReader;
+import com.example.robot.infrastructure.parserRaw.RawScenarioParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that reading a scenario file through memory-mapped windows gives the same
+ * result, or the same error, as {@link RawScenarioParser} on the same text.
+ */
+class MappedScenarioReaderTest {
+
+    private static final String[] FRAGMENTS = {
+            "5", "12", "-3", "+4", "2147483648", "x", "N", "e", "W", "X",
+            "LMLMLMLMM", "mmrmmrmrrm", "LQM", "",
+            " ", "\t", "\n", "\n\n", "\r\n", "\r", "\u000B"
+    };
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void matches_parser_for_every_window_size() throws IOException {
+        Random rnd = new Random(21);
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int lines = rnd.nextInt(7);
+            for (int l = 0; l < lines; l++) {
+                int tokens = rnd.nextInt(4);
+                for (int t = 0; t < tokens; t++) {
+                    if (t > 0 || rnd.nextInt(4) == 0) sb.append(' ');
+                    sb.append(FRAGMENTS[rnd.nextInt(14)]);
+                }
+                sb.append(FRAGMENTS[14 + rnd.nextInt(FRAGMENTS.length - 14)]);
+            }
+            String raw = sb.toString();
+            Path file = write(raw);
+            for (int window : new int[]{1, 3, 7, 1 << 16}) {
+                assertEquals(parsed(raw), read(file, window), () -> "window " + window + ", input: " + raw);
+            }
+        }
+    }
+
+    @Test
+    void batch_runner_writes_one_line_per_robot() throws IOException {
+        Path input = write("5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM\n");
+        Path output = dir.resolve("out.txt");
+
+        new ScenarioBatchRunner(new RobotScenarioService(new IgnorePolicy()), input, output).run();
+
+        assertEquals("1 3 N\n5 1 E\n", Files.readString(output));
+    }
+
+    private Path write(String raw) throws IOException {
+        return Files.writeString(Files.createTempFile(dir, "scenario", ".txt"), raw, StandardCharsets.US_ASCII);
+    }
+
+    private static Object parsed(String raw) {
+        try {
+            ScenarioCommand cmd = RawScenarioParser.parse(raw);
+            return List.of(cmd.grid(), cmd.programs());
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static Object read(Path file, int window) throws IOException {
+        try (MappedScenarioReader reader = new MappedScenarioReader(file, window)) {
+            GridSize grid = reader.readGrid();
+            List<RobotProgram> programs = new ArrayList<>();
+            for (RobotProgram p = reader.next(); p != null; p = reader.next()) programs.add(p);
+            return List.of(grid, programs);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+}
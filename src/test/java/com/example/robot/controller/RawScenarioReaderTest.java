@@ -0,0 +1,117 @@
+package com.example.robot.controller;
+
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.application.port.in.RobotProgram;
+import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.infrastructure.parserRaw.RawScenarioParser;
+import com.example.robot.infrastructure.parserRaw.RawScenarioReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that reading a scenario line by line gives the same result, or the same error,
+ * as {@link RawScenarioParser} on the same text.
+ */
+class RawScenarioReaderTest {
+
+    private static final String[] EDGE_CASES = {
+            "",
+            " \n\t \r\n",
+            "5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM\n",
+            "\n \n\t\n5 5\n1 2 N\nM\n \n\t \n",
+            "5 5\n  \n1 2 N\nM\n",
+            "5 5\n1 2 N\n \t \nM\n",
+            "5 5\n1 2 N\nM\n\u2003\n3 3 E\nM",
+            "5 5\r\n\r\n1 2 N\r\rM\r\n",
+            "5 5\u000B1 2 N\fM",
+            "5 5\u20281 2 N\u2029M\u0085",
+            "\u0085\r5 5\n1 2 N\nM",
+            "\u0085",
+            "5 5\n1 2 N\nM\n\t\u0085",
+            "5 5\n1 2 N",
+            "x\n1 2 N",
+            "x\n1 2 N\nM",
+            "5 5\n1 2 N\nM\n3 3 E",
+            "5 5\n1 2 N\nM\n3 3 E\n \n",
+            "5 5\n1 2 X\nM\n3 3 E",
+    };
+
+    private static final String[] FRAGMENTS = {
+            "5", "12", "-3", "x", "N", "e", "W", "X", "LMLMLMLMM", "mmrmmrmrrm", "LQM", "",
+            " ", "\t", "\u001C", "\n", "\n\n", "\r\n", "\r", "\u000B", "\f", "\u0085", "\u2028"
+    };
+
+    @Test
+    void matches_parser_on_edge_cases() {
+        for (String raw : EDGE_CASES) {
+            assertEquals(parsed(raw), read(new StringReader(raw)), () -> "input: " + escape(raw));
+        }
+    }
+
+    @Test
+    void matches_parser_on_random_input() {
+        Random rnd = new Random(31);
+        for (int i = 0; i < 5_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int lines = rnd.nextInt(7);
+            for (int l = 0; l < lines; l++) {
+                int tokens = rnd.nextInt(4);
+                for (int t = 0; t < tokens; t++) {
+                    if (t > 0 || rnd.nextInt(4) == 0) sb.append(' ');
+                    sb.append(FRAGMENTS[rnd.nextInt(15)]);
+                }
+                sb.append(FRAGMENTS[15 + rnd.nextInt(FRAGMENTS.length - 15)]);
+            }
+            String raw = sb.toString();
+            assertEquals(parsed(raw), read(new StringReader(raw)), () -> "input: " + escape(raw));
+        }
+    }
+
+    @Test
+    void lines_may_span_reads() {
+        String raw = "5 5\r\n" + "1 2 N\r\n" + "M".repeat(20_000) + "\r\n";
+        Reader trickle = new StringReader(raw) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, 3));
+            }
+        };
+        assertEquals(parsed(raw), read(trickle));
+    }
+
+    private static Object parsed(String raw) {
+        try {
+            return RawScenarioParser.parse(raw);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static Object read(Reader in) {
+        try {
+            RawScenarioReader reader = new RawScenarioReader(in);
+            GridSize grid = reader.readGrid();
+            List<RobotProgram> programs = new ArrayList<>();
+            for (RobotProgram p = reader.next(); p != null; p = reader.next()) {
+                programs.add(p);
+            }
+            return new ScenarioCommand(grid, programs);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static String escape(String raw) {
+        StringBuilder sb = new StringBuilder();
+        raw.chars().forEach(c -> sb.append(c < 0x20 || c > 0x7e ? String.format("\\u%04X", c) : String.valueOf((char) c)));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.robot.controller;
+
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.application.port.in.RobotProgram;
+import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.infrastructure.parserRaw.RawScenarioParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the hand-written scanner behind {@link RawScenarioParser} against the original
+ * regex-based implementation, kept here as the reference.
+ */
+class RawScenarioScannerTest {
+
+    private static final String[] FRAGMENTS = {
+            "5", "12", "-3", "+4", "2147483647", "2147483648", "007", "x", "١",
+            "N", "e", "S", "w", "X", "North",
+            "LMLMLMLMM", "mmrmmrmrrm", "LRM", "LQM", "",
+            " ", "  ", "\t", "\n", "\n\n", "\r\n", "\r", "\u000B", " ", "\u0085", " ", "\u001C"
+    };
+
+    @Test
+    void matches_reference_on_sample() {
+        String raw = "5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM\n";
+        assertEquals(reference(raw), RawScenarioParser.parse(raw));
+    }
+
+    @Test
+    void matches_reference_on_structured_random_input() {
+        Random rnd = new Random(11);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int lines = rnd.nextInt(7);
+            for (int l = 0; l < lines; l++) {
+                int tokens = rnd.nextInt(4);
+                for (int t = 0; t < tokens; t++) {
+                    if (t > 0 || rnd.nextInt(4) == 0) sb.append(rnd.nextBoolean() ? " " : " \t ");
+                    sb.append(FRAGMENTS[rnd.nextInt(20)]);
+                }
+                sb.append(FRAGMENTS[20 + rnd.nextInt(FRAGMENTS.length - 20)]);
+            }
+            assertSameOutcome(sb.toString());
+        }
+    }
+
+    @Test
+    void matches_reference_on_valid_scenarios() {
+        Random rnd = new Random(12);
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder sb = new StringBuilder(rnd.nextInt(100) + " " + rnd.nextInt(100) + "\n");
+            for (int r = 0, n = 1 + rnd.nextInt(5); r < n; r++) {
+                sb.append(rnd.nextInt(100)).append(' ').append(rnd.nextInt(100)).append(' ')
+                        .append("NESWnesw".charAt(rnd.nextInt(8))).append("\r\n");
+                for (int k = 0, len = 1 + rnd.nextInt(30); k < len; k++) sb.append("LRMlrm".charAt(rnd.nextInt(6)));
+                sb.append('\n');
+            }
+            assertSameOutcome(sb.toString());
+        }
+    }
+
+    private static void assertSameOutcome(String raw) {
+        Object expected;
+        try {
+            expected = reference(raw);
+        } catch (IllegalArgumentException e) {
+            expected = e.getMessage();
+        }
+        Object actual;
+        try {
+            actual = RawScenarioParser.parse(raw);
+        } catch (IllegalArgumentException e) {
+            actual = e.getMessage();
+        }
+        assertEquals(expected, actual, () -> "input: " + raw.replace("\n", "\\n"));
+    }
+
+    /** The original regex implementation of RawScenarioParser.parse. */
+    private static ScenarioCommand reference(String raw) {
+        if (raw == null || raw.isBlank()) {
+            throw new IllegalArgumentException("Empty scenario input");
+        }
+        String[] lines = raw.strip().split("\\R+");
+        if (lines.length < 3) throw new IllegalArgumentException("Incomplete scenario");
+
+        String[] gridParts = lines[0].trim().split("\\s+");
+        if (gridParts.length != 2) throw new IllegalArgumentException("Invalid grid line");
+        GridSize grid = new GridSize(parseInt(gridParts[0], "maxX"), parseInt(gridParts[1], "maxY"));
+
+        List<RobotProgram> programs = new ArrayList<>();
+        int i = 1;
+        while (i < lines.length) {
+            if (i + 1 >= lines.length) throw new IllegalArgumentException("Missing instruction line for robot at line " + (i+1));
+
+            String posLine = lines[i].trim();
+            String cmdLine = lines[i + 1].trim();
+            i += 2;
+
+            String[] pos = posLine.split("\\s+");
+            if (pos.length != 3) throw new IllegalArgumentException("Invalid robot position line: " + posLine);
+
+            int x = parseInt(pos[0], "startX");
+            int y = parseInt(pos[1], "startY");
+            char o = Character.toUpperCase(pos[2].charAt(0));
+            if ("NESW".indexOf(o) < 0) throw new IllegalArgumentException("Invalid orientation: " + pos[2]);
+
+            String instr = cmdLine.toUpperCase();
+            if (!instr.matches("[LRM]+")) throw new IllegalArgumentException("Invalid instruction string: " + instr);
+
+            programs.add(new RobotProgram(x, y, o, instr));
+        }
+        return new ScenarioCommand(grid, programs);
+    }
+
+    private static int parseInt(String s, String name) {
+        try { return Integer.parseInt(s); }
+        catch (NumberFormatException e) { throw new IllegalArgumentException("Invalid integer for " + name + ": " + s); }
+    }
+}
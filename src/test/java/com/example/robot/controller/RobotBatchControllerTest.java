@@ -0,0 +1,192 @@
+package com.example.robot.controller;
+
+import com.example.robot.application.port.in.FinalState;
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.application.port.in.InspectScenarioUseCase;
+import com.example.robot.application.port.in.InspectionOptions;
+import com.example.robot.application.port.in.ProcessScenarioUseCase;
+import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.application.port.in.ScenarioInspection;
+import com.example.robot.application.port.in.ScenarioResult;
+import com.example.robot.application.port.in.ScenarioRun;
+import com.example.robot.application.port.in.StreamScenarioUseCase;
+import com.example.robot.application.service.BoundedScenarioUseCase;
+import com.example.robot.application.service.RobotScenarioService;
+import com.example.robot.domain.IgnorePolicy;
+import com.example.robot.infrastructure.controller.RobotBatchController;
+import com.example.robot.infrastructure.dto.RobotProgramRequest;
+import com.example.robot.infrastructure.dto.ScenarioRequest;
+import com.example.robot.infrastructure.parserRaw.RawScenarioParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = RobotBatchController.class, properties = "robot.execution.workers=2")
+class RobotBatchControllerTest {
+
+    @TestConfiguration
+    static class Executor {
+        @Bean(destroyMethod = "close")
+        ExecutorService scenarioBatchExecutor() {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+    }
+
+    @Autowired
+    MockMvc mvc;
+    @Autowired
+    ObjectMapper om;
+
+    @MockitoBean
+    ProcessScenarioUseCase useCase;
+
+    @BeforeEach
+    void realService() {
+        RobotScenarioService service = new RobotScenarioService(new IgnorePolicy());
+        when(useCase.process(any())).thenAnswer(inv -> service.process(inv.getArgument(0)));
+    }
+
+    @Test
+    void json_batch_isolates_failed_scenarios_and_keeps_order() throws Exception {
+        List<ScenarioRequest> batch = List.of(
+                new ScenarioRequest(5, 5, List.of(new RobotProgramRequest(1, 2, "N", "LMLMLMLMM"))),
+                new ScenarioRequest(5, 5, List.of(new RobotProgramRequest(1, 2, "N", "XYZ"))),   // invalid instructions
+                new ScenarioRequest(1, 1, List.of(new RobotProgramRequest(3, 3, "N", "M"))),     // starts outside the grid
+                new ScenarioRequest(5, 5, List.of(new RobotProgramRequest(3, 3, "E", "MMRMMRMRRM")))
+        );
+
+        mvc.perform(post("/api/v1/robots/execute-batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].status").value(200))
+                .andExpect(jsonPath("$.results[0].finals[0].y").value(3))
+                .andExpect(jsonPath("$.results[0].error").doesNotExist())
+                .andExpect(jsonPath("$.results[1].status").value(400))
+                .andExpect(jsonPath("$.results[1].error.error").value("validation_error"))
+                .andExpect(jsonPath("$.results[1].error.details[0].field").value("programs[0].instructions"))
+                .andExpect(jsonPath("$.results[1].finals").doesNotExist())
+                .andExpect(jsonPath("$.results[2].status").value(422))
+                .andExpect(jsonPath("$.results[2].error.error").value("domain_error"))
+                .andExpect(jsonPath("$.results[2].error.path").value("/api/v1/robots/execute-batch"))
+                .andExpect(jsonPath("$.results[3].finals[0].x").value(5))
+                .andExpect(jsonPath("$.results[3].finals[0].y").value(1))
+                .andExpect(jsonPath("$.results[3].finals[0].orientation").value("E"));
+    }
+
+    @Test
+    void raw_batch_splits_scenarios_on_blank_lines() throws Exception {
+        String raw = "5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM\n\n  \n5 5\n1 2 Q\nM\n\n2 2\r\n0 0 N\r\nMM\r\n";
+
+        mvc.perform(post("/api/v1/robots/execute-batch")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content(raw))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].finals[1].x").value(5))
+                .andExpect(jsonPath("$.results[1].status").value(400))
+                .andExpect(jsonPath("$.results[1].error.error").value("bad_request"))
+                .andExpect(jsonPath("$.results[1].error.message").value("Invalid orientation: Q"))
+                .andExpect(jsonPath("$.results[2].finals[0].y").value(2));
+    }
+
+    @Test
+    void scenarios_never_run_on_fork_join_workers() throws Exception {
+        // A scenario may block on the bounded pool, whose workers join on the scenario ForkJoinPool
+        doAnswer(inv -> {
+            if (Thread.currentThread() instanceof ForkJoinWorkerThread) throw new IllegalStateException("on a FJ worker");
+            return new ScenarioResult(List.of(new FinalState(0, 0, 'N')));
+        }).when(useCase).process(any());
+
+        mvc.perform(post("/api/v1/robots/execute-batch")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("1 1\n0 0 N\nL\n\n1 1\n0 0 N\nR\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.failed").value(0));
+    }
+
+    @Test
+    void batch_larger_than_the_pool_queue_is_not_refused_by_itself() throws Exception {
+        RobotScenarioService service = new RobotScenarioService(new IgnorePolicy());
+        class Slow implements ProcessScenarioUseCase, InspectScenarioUseCase, StreamScenarioUseCase {
+            @Override
+            public ScenarioResult process(ScenarioCommand command) {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return service.process(command);
+            }
+
+            @Override
+            public ScenarioInspection inspect(ScenarioCommand command, InspectionOptions options) {
+                return service.inspect(command, options);
+            }
+
+            @Override
+            public ScenarioRun open(GridSize grid) {
+                return service.open(grid);
+            }
+        }
+        // Same shape as robot.execution.*: 2 workers, a queue of 2, every scenario large
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(2), new ThreadPoolExecutor.AbortPolicy());
+        BoundedScenarioUseCase bounded = new BoundedScenarioUseCase(new Slow(), pool, 0);
+        doAnswer(inv -> bounded.process(inv.getArgument(0))).when(useCase).process(any());
+
+        List<ScenarioRequest> batch = Collections.nCopies(20,
+                new ScenarioRequest(5, 5, List.of(new RobotProgramRequest(1, 2, "N", "LMLMLMLMM"))));
+        try {
+            mvc.perform(post("/api/v1/robots/execute-batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(om.writeValueAsString(batch)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.succeeded").value(20))
+                    .andExpect(jsonPath("$.failed").value(0));
+        } finally {
+            bounded.close();
+        }
+    }
+
+    @Test
+    void empty_batch_is_rejected() throws Exception {
+        mvc.perform(post("/api/v1/robots/execute-batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("bad_request"));
+    }
+
+    @Test
+    void split_scenarios_ignores_extra_blank_lines() {
+        List<String> parts = RawScenarioParser.splitScenarios("\n1 1\n0 0 N\nM\n\n\n\n1 1\n1 1 S\nM\n\n");
+        assertEquals(2, parts.size());
+        assertEquals(1, RawScenarioParser.parse(parts.get(1)).programs().get(0).startX());
+    }
+}
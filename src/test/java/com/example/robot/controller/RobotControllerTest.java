@@ -1,9 +1,13 @@
 package com.example.robot.controller;
 
 import com.example.robot.application.port.in.FinalState;
+import com.example.robot.application.port.in.InspectScenarioUseCase;
 import com.example.robot.application.port.in.ProcessScenarioUseCase;
 import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.application.port.in.ScenarioRejectedException;
 import com.example.robot.application.port.in.ScenarioResult;
+import com.example.robot.application.service.RobotScenarioService;
+import com.example.robot.domain.IgnorePolicy;
 import com.example.robot.infrastructure.controller.RobotController;
 import com.example.robot.infrastructure.dto.RobotProgramRequest;
 import com.example.robot.infrastructure.dto.ScenarioRequest;
@@ -34,6 +38,8 @@ class RobotControllerTest {
 
     @MockitoBean
     ProcessScenarioUseCase useCase;
+    @MockitoBean
+    InspectScenarioUseCase inspector;
 
     @Test
     void execute_returns_expected_response() throws Exception {
@@ -92,5 +98,57 @@ class RobotControllerTest {
         assertThrows(IllegalArgumentException.class, () -> RawScenarioParser.parse(raw));
     }
 
+    @Test
+    void rejected_scenario_returns_429() throws Exception {
+        when(useCase.process(any())).thenThrow(new ScenarioRejectedException("Scenario execution capacity exhausted, retry later"));
+
+        mvc.perform(post("/api/v1/robots/execute-raw-plain")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("5 5\n1 2 N\nM\n"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.error").value("too_many_requests"));
+    }
+
+    @Test
+    void execute_with_trace_returns_packed_paths() throws Exception {
+        RobotScenarioService service = new RobotScenarioService(new IgnorePolicy());
+        when(inspector.inspect(any(), any())).thenAnswer(inv -> service.inspect(inv.getArgument(0), inv.getArgument(1)));
+
+        ScenarioRequest req = new ScenarioRequest(5, 5, List.of(
+                new RobotProgramRequest(1, 2, "N", "LMLMLMLMM"),
+                new RobotProgramRequest(0, 0, "S", "M")
+        ));
+
+        mvc.perform(post("/api/v1/robots/execute").param("trace", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(req)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.finals[0].y").value(3))
+                .andExpect(jsonPath("$.traces[0].steps").value(9))
+                .andExpect(jsonPath("$.traces[0].path").value("iIgC")) // L M L M L M L M M, moves all taken
+                .andExpect(jsonPath("$.traces[1].steps").value(1))
+                .andExpect(jsonPath("$.traces[1].path").value("Aw=="))  // M refused by the grid edge
+                .andExpect(jsonPath("$.coverage").doesNotExist());
+    }
+
+    @Test
+    void execute_with_coverage_counts_cleaned_cells() throws Exception {
+        RobotScenarioService service = new RobotScenarioService(new IgnorePolicy());
+        when(inspector.inspect(any(), any())).thenAnswer(inv -> service.inspect(inv.getArgument(0), inv.getArgument(1)));
 
+        // 2x2 grid (4 cells): the first robot cleans the left column, the second one crosses it
+        mvc.perform(post("/api/v1/robots/execute-raw").param("coverage", "true").param("bitmap", "true")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("1 1\n0 0 N\nMMM\n1 1 W\nMM\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.finals[1].x").value(1)) // blocked by the first robot at (0, 1)
+                .andExpect(jsonPath("$.coverage.robots[0]").value(2))
+                .andExpect(jsonPath("$.coverage.robots[1]").value(1))
+                .andExpect(jsonPath("$.coverage.covered").value(3))
+                .andExpect(jsonPath("$.coverage.area").value(4))
+                .andExpect(jsonPath("$.coverage.percentage").value(75.0))
+                .andExpect(jsonPath("$.coverage.bitmap").value("DQ==")) // cells 0, 2, 3: 0b1101
+                .andExpect(jsonPath("$.traces").doesNotExist());
+    }
 }
@@ -0,0 +1,72 @@
+package com.example.robot.controller;
+
+import com.example.robot.application.port.in.FinalState;
+import com.example.robot.application.port.in.JobStatus;
+import com.example.robot.application.port.in.ScenarioJob;
+import com.example.robot.application.port.in.ScenarioJobUseCase;
+import com.example.robot.infrastructure.controller.RobotJobController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = RobotJobController.class)
+class RobotJobControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @MockitoBean
+    ScenarioJobUseCase jobs;
+
+    @Test
+    void submit_raw_returns_202_with_location() throws Exception {
+        when(jobs.submit(any())).thenReturn(new ScenarioJob("abc", JobStatus.QUEUED, 0, 2, null));
+
+        mvc.perform(post("/api/v1/robots/jobs")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/robots/jobs/abc"))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.total").value(2));
+    }
+
+    @Test
+    void result_streams_finals_of_a_succeeded_job() throws Exception {
+        when(jobs.find("abc")).thenReturn(Optional.of(new ScenarioJob("abc", JobStatus.SUCCEEDED, 2, 2, null)));
+        when(jobs.result("abc")).thenReturn(Optional.of(List.of(new FinalState(1, 3, 'N'), new FinalState(5, 1, 'E'))));
+
+        mvc.perform(get("/api/v1/robots/jobs/abc/result"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.finals[1].x").value(5))
+                .andExpect(jsonPath("$.finals[1].orientation").value("E"));
+
+        mvc.perform(get("/api/v1/robots/jobs/abc/result").accept(MediaType.TEXT_PLAIN))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1 3 N\n5 1 E"));
+    }
+
+    @Test
+    void unknown_and_unfinished_jobs_are_reported() throws Exception {
+        when(jobs.find("gone")).thenReturn(Optional.empty());
+        when(jobs.find("busy")).thenReturn(Optional.of(new ScenarioJob("busy", JobStatus.RUNNING, 1, 2, null)));
+
+        mvc.perform(get("/api/v1/robots/jobs/gone"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("not_found"));
+        mvc.perform(get("/api/v1/robots/jobs/busy/result"))
+                .andExpect(status().isConflict());
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.robot.controller;
+
+import com.example.robot.application.port.in.ScenarioSessionUseCase;
+import com.example.robot.application.service.RobotScenarioService;
+import com.example.robot.application.service.ScenarioSessionService;
+import com.example.robot.domain.IgnorePolicy;
+import com.example.robot.infrastructure.controller.RobotSessionController;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = RobotSessionController.class)
+class RobotSessionControllerTest {
+
+    @TestConfiguration
+    static class Sessions {
+        @Bean
+        ScenarioSessionUseCase sessions() {
+            return new ScenarioSessionService(new RobotScenarioService(new IgnorePolicy()), 4, Duration.ofMinutes(10),
+                    Clock.systemUTC());
+        }
+    }
+
+    @Autowired
+    MockMvc mvc;
+    @Autowired
+    ObjectMapper om;
+
+    @Test
+    void session_lifecycle() throws Exception {
+        String body = mvc.perform(post("/api/v1/robots/sessions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"maxX\": 5, \"maxY\": 5}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.robots").value(0))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode created = om.readTree(body);
+        String path = "/api/v1/robots/sessions/" + created.get("id").asText();
+
+        mvc.perform(post(path + "/robots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"programs\": [{\"startX\": 1, \"startY\": 2, \"orientation\": \"N\", \"instructions\": \"LMLMLMLMM\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.finals[0].y").value(3));
+
+        // The second robot runs into the first one, placed by the previous request
+        mvc.perform(post(path + "/robots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"programs\": [{\"startX\": 1, \"startY\": 0, \"orientation\": \"n\", \"instructions\": \"mmmmm\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.finals.length()").value(1))
+                .andExpect(jsonPath("$.finals[0].y").value(2));
+
+        mvc.perform(get(path))
+                .andExpect(jsonPath("$.robots").value(2));
+        mvc.perform(get(path + "/finals"))
+                .andExpect(jsonPath("$.finals[1].orientation").value("N"));
+        mvc.perform(get(path + "/occupancy").param("x", "1").param("y", "3"))
+                .andExpect(jsonPath("$.occupied").value(true));
+
+        mvc.perform(delete(path))
+                .andExpect(status().isNoContent());
+        mvc.perform(get(path))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("not_found"));
+    }
+
+    @Test
+    void invalid_robots_are_a_validation_error() throws Exception {
+        mvc.perform(post("/api/v1/robots/sessions/any/robots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"programs\": [{\"startX\": 1, \"startY\": 2, \"orientation\": \"N\", \"instructions\": \"X\"}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("validation_error"));
+    }
+}
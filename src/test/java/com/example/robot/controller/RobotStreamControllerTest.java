@@ -0,0 +1,266 @@
+package com.example.robot.controller;
+
+import com.example.robot.application.port.in.FinalState;
+import com.example.robot.application.port.in.GridSize;
+import com.example.robot.application.port.in.InspectScenarioUseCase;
+import com.example.robot.application.port.in.ProcessScenarioUseCase;
+import com.example.robot.application.port.in.ScenarioCommand;
+import com.example.robot.application.port.in.RobotProgram;
+import com.example.robot.application.port.in.ScenarioRun;
+import com.example.robot.application.port.in.StreamScenarioUseCase;
+import com.example.robot.application.service.RobotScenarioService;
+import com.example.robot.domain.IgnorePolicy;
+import com.example.robot.domain.InstructionSequence;
+import com.example.robot.infrastructure.codec.BinaryScenarioCodec;
+import com.example.robot.infrastructure.controller.RobotController;
+import com.example.robot.infrastructure.controller.RobotStreamController;
+import com.example.robot.infrastructure.parserRaw.RawScenarioParser;
+import com.example.robot.infrastructure.parserRaw.RawScenarioReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// RobotController is loaded too, to check which one answers /execute for each media type
+@WebMvcTest(controllers = {RobotStreamController.class, RobotController.class})
+class RobotStreamControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @MockitoBean
+    StreamScenarioUseCase useCase;
+    @MockitoBean
+    ProcessScenarioUseCase processUseCase;
+    @MockitoBean
+    InspectScenarioUseCase inspector;
+
+    @BeforeEach
+    void realService() {
+        RobotScenarioService service = new RobotScenarioService(new IgnorePolicy());
+        when(useCase.open(any())).thenAnswer(inv -> service.open(inv.getArgument(0)));
+        when(processUseCase.process(any())).thenAnswer(inv -> service.process(inv.getArgument(0)));
+    }
+
+    @Test
+    void streams_one_line_per_robot() throws Exception {
+        mvc.perform(post("/api/v1/robots/execute-raw-stream")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1 3 N\n5 1 E"));
+    }
+
+    @Test
+    void invalid_first_robot_is_a_bad_request() throws Exception {
+        mvc.perform(post("/api/v1/robots/execute-raw-stream")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("5 5\n1 2 X\nMMM\n"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void reader_reports_the_same_errors_as_the_parser() {
+        RawScenarioReader noRobots = new RawScenarioReader(new StringReader("5 5\n"));
+        assertEquals("Incomplete scenario",
+                assertThrows(IllegalArgumentException.class, noRobots::readGrid).getMessage());
+
+        RawScenarioReader missing = new RawScenarioReader(new StringReader("5 5\n\n1 2 N\nM\n3 3 E\n"));
+        assertEquals(new GridSize(5, 5), missing.readGrid());
+        assertNotNull(missing.next());
+        assertEquals("Missing instruction line for robot at line 4",
+                assertThrows(IllegalArgumentException.class, missing::next).getMessage());
+    }
+
+    @Test
+    void json_stream_executes_each_program_as_it_is_read() throws Exception {
+        mvc.perform(post("/api/v1/robots/execute-stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"maxX": 5, "maxY": 5, "comment": {"ignored": [1, 2]}, "programs": [
+                                  {"startX": 1, "startY": 2, "orientation": "N", "instructions": "LMLMLMLMM"},
+                                  {"instructions": "mmrmmrmrrm", "orientation": "e", "startX": 3, "startY": 3}
+                                ]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        {"finals": [{"x": 1, "y": 3, "orientation": "N"}, {"x": 5, "y": 1, "orientation": "E"}]}
+                        """, true));
+    }
+
+    @Test
+    void json_stream_names_the_invalid_program() throws Exception {
+        mvc.perform(post("/api/v1/robots/execute-stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"maxX": 5, "maxY": 5, "programs": [
+                                  {"startX": 1, "startY": 2, "orientation": "N", "instructions": "M"},
+                                  {"startX": 1, "startY": 2, "orientation": "N", "instructions": "MXM"}
+                                ]}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("programs[1].instructions: instructions must contain only L,R,M"));
+    }
+
+    @Test
+    void json_stream_needs_the_grid_before_the_programs() throws Exception {
+        mvc.perform(post("/api/v1/robots/execute-stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"programs\": [], \"maxX\": 5, \"maxY\": 5}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("maxX and maxY must come before programs"));
+
+        mvc.perform(post("/api/v1/robots/execute-stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"maxX\": 5, \"maxY\": 5, \"programs\": [{\"startX\": 1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("bad_request"));
+    }
+
+    @Test
+    void ndjson_answers_one_final_state_per_line() throws Exception {
+        String json = """
+                {"maxX": 5, "maxY": 5, "programs": [
+                  {"startX": 1, "startY": 2, "orientation": "N", "instructions": "LMLMLMLMM"},
+                  {"startX": 3, "startY": 3, "orientation": "E", "instructions": "MMRMMRMRRM"}
+                ]}
+                """;
+        String lines = "{\"x\":1,\"y\":3,\"orientation\":\"N\"}\n{\"x\":5,\"y\":1,\"orientation\":\"E\"}\n";
+
+        mvc.perform(post("/api/v1/robots/execute").accept(MediaType.APPLICATION_NDJSON)
+                        .contentType(MediaType.APPLICATION_JSON).content(json))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(lines));
+
+        mvc.perform(post("/api/v1/robots/execute-stream").accept(MediaType.APPLICATION_NDJSON)
+                        .contentType(MediaType.APPLICATION_JSON).content(json))
+                .andExpect(content().string(lines));
+
+        mvc.perform(post("/api/v1/robots/execute-raw").accept(MediaType.APPLICATION_NDJSON)
+                        .contentType(MediaType.TEXT_PLAIN).content("5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM\n"))
+                .andExpect(content().string(lines));
+    }
+
+    @Test
+    void ndjson_execute_sends_the_first_line_before_the_last_robot_runs() throws Exception {
+        RobotScenarioService service = new RobotScenarioService(new IgnorePolicy());
+        List<String> sentBeforeLast = new ArrayList<>();
+        doAnswer(inv -> {
+            ScenarioRun run = service.open(inv.getArgument(0));
+            return new ScenarioRun() {
+                @Override
+                public FinalState execute(RobotProgram program) {
+                    if (program.startX() == 3) {
+                        var response = (MockHttpServletResponse) ((ServletRequestAttributes)
+                                RequestContextHolder.currentRequestAttributes()).getResponse();
+                        try {
+                            sentBeforeLast.add(response.getContentAsString());
+                        } catch (UnsupportedEncodingException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }
+                    return run.execute(program);
+                }
+
+                @Override
+                public FinalState execute(int startX, int startY, char orientation, InstructionSequence instructions) {
+                    return run.execute(startX, startY, orientation, instructions);
+                }
+
+                @Override
+                public boolean isOccupied(int x, int y) {
+                    return run.isOccupied(x, y);
+                }
+            };
+        }).when(useCase).open(any());
+
+        mvc.perform(post("/api/v1/robots/execute").accept(MediaType.APPLICATION_NDJSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"maxX\": 5, \"maxY\": 5, \"programs\": ["
+                                + "{\"startX\": 1, \"startY\": 2, \"orientation\": \"N\", \"instructions\": \"LMLMLMLMM\"},"
+                                + "{\"startX\": 3, \"startY\": 3, \"orientation\": \"E\", \"instructions\": \"MMRMMRMRRM\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"x\":1,\"y\":3,\"orientation\":\"N\"}\n{\"x\":5,\"y\":1,\"orientation\":\"E\"}\n"));
+        assertEquals(List.of("{\"x\":1,\"y\":3,\"orientation\":\"N\"}\n"), sentBeforeLast);
+    }
+
+    @Test
+    void execute_stays_json_unless_ndjson_is_asked_for() throws Exception {
+        String json = "{\"maxX\": 5, \"maxY\": 5, \"programs\": [{\"startX\": 1, \"startY\": 2, \"orientation\": \"N\", \"instructions\": \"M\"}]}";
+
+        mvc.perform(post("/api/v1/robots/execute").contentType(MediaType.APPLICATION_JSON).content(json))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.finals[0].y").value(3));
+
+        mvc.perform(post("/api/v1/robots/execute").accept(MediaType.ALL)
+                        .contentType(MediaType.APPLICATION_JSON).content(json))
+                .andExpect(jsonPath("$.finals[0].y").value(3));
+    }
+
+    @Test
+    void ndjson_validates_the_request_like_execute() throws Exception {
+        mvc.perform(post("/api/v1/robots/execute").accept(MediaType.APPLICATION_NDJSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"maxX\": 5, \"maxY\": 5, \"programs\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("validation_error"));
+    }
+
+    @Test
+    void binary_execute_round_trips_through_the_codec() throws Exception {
+        ScenarioCommand cmd = RawScenarioParser.parse("5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM\n");
+
+        byte[] body = mvc.perform(post("/api/v1/robots/execute")
+                        .contentType(BinaryScenarioCodec.MEDIA_TYPE)
+                        .content(BinaryScenarioCodec.encode(cmd)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BinaryScenarioCodec.MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(List.of(new FinalState(1, 3, 'N'), new FinalState(5, 1, 'E')),
+                BinaryScenarioCodec.decodeResults(new ByteArrayInputStream(body)));
+    }
+
+    @Test
+    void truncated_binary_scenario_is_a_bad_request() throws Exception {
+        byte[] encoded = BinaryScenarioCodec.encode(RawScenarioParser.parse("5 5\n1 2 N\nMMMMMMMM\n"));
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 1);
+
+        mvc.perform(post("/api/v1/robots/execute")
+                        .contentType(BinaryScenarioCodec.MEDIA_TYPE)
+                        .content(truncated))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void binary_scenario_with_trailing_bytes_is_a_bad_request() throws Exception {
+        byte[] encoded = BinaryScenarioCodec.encode(RawScenarioParser.parse("5 5\n1 2 N\nMMMMMMMM\n"));
+
+        mvc.perform(post("/api/v1/robots/execute")
+                        .contentType(BinaryScenarioCodec.MEDIA_TYPE)
+                        .content(Arrays.copyOf(encoded, encoded.length + 3)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unexpected content after the scenario"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.robot.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Cleaned cells: per robot and in total, identical with the bitset and the hash table union. */
+public class CoverageTest {
+
+    @Test
+    void dense_and_sparse_unions_count_the_same_cells() {
+        Random rnd = new Random(19);
+        Grid grid = new Grid(30, 20);
+        Navigator navigator = new Navigator(new IgnorePolicy());
+        Coverage dense = new Coverage(grid, Long.MAX_VALUE);
+        Coverage sparse = new Coverage(grid, 0);
+        Occupancy denseOcc = new DenseGridOccupancy(grid);
+        Occupancy sparseOcc = new SparseLongOccupancy();
+
+        for (int i = 0; i < 50; i++) {
+            Position start = new Position(rnd.nextInt(31), rnd.nextInt(21));
+            Orientation o = Orientation.values()[rnd.nextInt(4)];
+            StringBuilder sb = new StringBuilder();
+            for (int k = 0; k < 80; k++) sb.append("LRMM".charAt(rnd.nextInt(4)));
+            InstructionSequence program = InstructionSequence.parse(sb.toString());
+
+            dense.startRobot(start);
+            navigator.apply(new Robot(start, o, grid), program, denseOcc, true, dense);
+            sparse.startRobot(start);
+            navigator.apply(new Robot(start, o, grid), program, sparseOcc, true, sparse);
+
+            assertEquals(dense.robotCells(), sparse.robotCells());
+            assertTrue(dense.robotCells() >= 1);
+        }
+        assertEquals(dense.coveredCells(), sparse.coveredCells());
+        assertEquals(31 * 21, dense.area());
+        assertTrue(dense.hasBitmap());
+        assertFalse(sparse.hasBitmap());
+
+        int bits = 0;
+        for (byte b : dense.toBitmap()) bits += Integer.bitCount(b & 0xff);
+        assertEquals(dense.coveredCells(), bits);
+    }
+
+    @Test
+    void revisited_cells_count_once() {
+        Grid grid = new Grid(5, 5);
+        Coverage coverage = new Coverage(grid, Long.MAX_VALUE);
+        Position start = new Position(2, 2);
+
+        coverage.startRobot(start);
+        new Navigator(new IgnorePolicy()).apply(new Robot(start, Orientation.N, grid),
+                InstructionSequence.parse("MRRMMRRM"), null, false, coverage);
+
+        assertEquals(3, coverage.robotCells()); // (2,2), (2,3), (2,1)
+        assertEquals(3, coverage.coveredCells());
+    }
+}
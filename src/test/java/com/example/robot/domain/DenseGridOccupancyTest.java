@@ -0,0 +1,52 @@
+package com.example.robot.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for {@link DenseGridOccupancy}. */
+public class DenseGridOccupancyTest {
+
+    @Test
+    void occupied_cells_are_not_free() {
+        Occupancy occ = new DenseGridOccupancy(new Grid(9, 9));
+
+        occ.occupy(new Position(3, 4));
+        occ.occupy(new Position(9, 9));
+
+        assertFalse(occ.isFree(new Position(3, 4)));
+        assertFalse(occ.isFree(9, 9));
+        assertTrue(occ.isFree(4, 3));
+        assertTrue(occ.isFree(0, 0));
+    }
+
+    @Test
+    void cells_outside_the_grid_are_free_but_cannot_be_occupied() {
+        Occupancy occ = new DenseGridOccupancy(new Grid(2, 2));
+
+        assertTrue(occ.isFree(-1, 0));
+        assertTrue(occ.isFree(3, 0));
+        assertThrows(IllegalArgumentException.class, () -> occ.occupy(new Position(3, 0)));
+    }
+
+    /** Rows wider than a word exercise the multi-word path of the area check. */
+    @Test
+    void area_check_matches_cell_by_cell_check() {
+        Grid grid = new Grid(150, 3);
+        DenseGridOccupancy occ = new DenseGridOccupancy(grid);
+        occ.occupy(new Position(70, 2));
+
+        assertFalse(occ.isFreeArea(0, 0, 150, 3));
+        assertFalse(occ.isFreeArea(70, 2, 70, 2));
+        assertFalse(occ.isFreeArea(5, 2, 140, 2));
+        assertTrue(occ.isFreeArea(0, 0, 150, 1));
+        assertTrue(occ.isFreeArea(71, 0, 150, 3));
+        assertTrue(occ.isFreeArea(0, 2, 69, 3));
+    }
+
+    @Test
+    void constructor_rejects_grids_too_large_to_index() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DenseGridOccupancy(new Grid(Integer.MAX_VALUE, Integer.MAX_VALUE)));
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.robot.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that the primitive {@link ExecutionKernel} produces exactly the same
+ * final states as the step-by-step loop of {@link Navigator}.
+ */
+public class ExecutionKernelTest {
+
+    /** Same semantics as IgnorePolicy, but a different class forces Navigator's step-by-step loop. */
+    private static final OutOfBoundsPolicy STEPWISE_IGNORE = (robot, next) -> {
+        if (robot.grid().inside(next)) robot.moveTo(next);
+    };
+
+    @Test
+    void matches_stepwise_navigator_on_random_programs_with_occupancy() {
+        Random rnd = new Random(7);
+        Grid grid = new Grid(6, 4);
+        Navigator stepwise = new Navigator(STEPWISE_IGNORE);
+        Occupancy expectedOcc = new SetOccupancy();
+        Occupancy actualOcc = new SetOccupancy();
+
+        for (int robotIndex = 0; robotIndex < 200; robotIndex++) {
+            Position start = new Position(rnd.nextInt(7), rnd.nextInt(5));
+            Orientation o = Orientation.values()[rnd.nextInt(4)];
+            InstructionSequence program = InstructionSequence.parse(randomProgram(rnd, 1 + rnd.nextInt(40)));
+
+            Robot expected = new Robot(start, o, grid);
+            stepwise.apply(expected, program, expectedOcc, true);
+
+            Robot actual = new Robot(start, o, grid);
+            ExecutionKernel.run(actual, program, actualOcc, true);
+
+            assertEquals(expected.position(), actual.position());
+            assertEquals(expected.orientation(), actual.orientation());
+        }
+    }
+
+    /** Long zigzags take the macro-step path away from walls and robots, and fall back near them. */
+    @Test
+    void block_jumps_match_stepwise_navigator() {
+        Random rnd = new Random(11);
+        Grid grid = new Grid(60, 40);
+        Navigator stepwise = new Navigator(STEPWISE_IGNORE);
+        Occupancy expectedOcc = new SetOccupancy();
+        Occupancy actualOcc = new DenseGridOccupancy(grid);
+
+        for (int robotIndex = 0; robotIndex < 300; robotIndex++) {
+            Position start = new Position(rnd.nextInt(61), rnd.nextInt(41));
+            Orientation o = Orientation.values()[rnd.nextInt(4)];
+            InstructionSequence program = InstructionSequence.parse(randomProgram(rnd, 200 + rnd.nextInt(400)));
+            CompiledProgram compiled = ProgramCompiler.compile(program);
+            assertNotNull(compiled.blocks());
+
+            Robot expected = new Robot(start, o, grid);
+            stepwise.apply(expected, program, expectedOcc, true);
+
+            Robot actual = new Robot(start, o, grid);
+            ExecutionKernel.run(actual, compiled, actualOcc, true);
+
+            assertEquals(expected.position(), actual.position());
+            assertEquals(expected.orientation(), actual.orientation());
+        }
+    }
+
+    @Test
+    void block_table_describes_net_move_and_excursion() {
+        // One block per repetition: a 2x2 square clockwise, then a 1x1 square anticlockwise
+        String block = "MMRMMRMMRMMRMLMLMLML";
+        CompiledProgram program = ProgramCompiler.compile(InstructionSequence.parse(block.repeat(BlockTable.MIN_BLOCKS)));
+        assertEquals(BlockTable.MIN_BLOCKS * BlockTable.BLOCK_OPS, program.size());
+        assertNull(ProgramCompiler.compile(InstructionSequence.parse(block.repeat(BlockTable.MIN_BLOCKS - 1))).blocks());
+
+        int[] t = program.blocks().table;
+        int fromNorth = BlockTable.offset(0, Orientation.N.ordinal());
+        assertArrayEquals(new int[] {0, 0, -1, 0, 2, 2, 0, 1},
+                Arrays.copyOfRange(t, fromNorth, fromNorth + BlockTable.STRIDE));
+        int fromEast = BlockTable.offset(0, Orientation.E.ordinal());
+        assertArrayEquals(new int[] {0, 0, 0, -2, 2, 1, 0, 1},
+                Arrays.copyOfRange(t, fromEast, fromEast + BlockTable.STRIDE));
+    }
+
+    /** Repeated patterns skip their cycles once detected and still end where stepping would. */
+    @Test
+    void cycle_skipping_matches_stepwise_navigator() {
+        Random rnd = new Random(13);
+        Grid grid = new Grid(25, 15);
+        Navigator stepwise = new Navigator(STEPWISE_IGNORE);
+        Occupancy expectedOcc = new SetOccupancy();
+        Occupancy actualOcc = new DenseGridOccupancy(grid);
+
+        for (int robotIndex = 0; robotIndex < 200; robotIndex++) {
+            Position start = new Position(rnd.nextInt(26), rnd.nextInt(16));
+            Orientation o = Orientation.values()[rnd.nextInt(4)];
+            String pattern = randomProgram(rnd, 1 + rnd.nextInt(12));
+            String raw = randomProgram(rnd, rnd.nextInt(3)) + pattern.repeat(50 + rnd.nextInt(300)) + randomProgram(rnd, rnd.nextInt(3));
+            InstructionSequence program = InstructionSequence.parse(raw);
+
+            Robot expected = new Robot(start, o, grid);
+            stepwise.apply(expected, program, expectedOcc, true);
+
+            Robot actual = new Robot(start, o, grid);
+            ExecutionKernel.run(actual, ProgramCompiler.compile(program), actualOcc, true);
+
+            assertEquals(expected.position(), actual.position(), raw);
+            assertEquals(expected.orientation(), actual.orientation(), raw);
+        }
+    }
+
+    @Test
+    void pinned_robot_skips_the_remaining_repetitions() {
+        Grid grid = new Grid(5, 5);
+        DenseGridOccupancy dense = new DenseGridOccupancy(grid);
+        int[] lookups = new int[1];
+        Occupancy counting = new Occupancy() {
+            @Override public boolean isFree(Position position) { lookups[0]++; return dense.isFree(position); }
+            @Override public boolean isFree(int x, int y) { lookups[0]++; return dense.isFree(x, y); }
+            @Override public boolean isFreeArea(int minX, int minY, int maxX, int maxY) {
+                lookups[0]++;
+                return dense.isFreeArea(minX, minY, maxX, maxY);
+            }
+            @Override public void occupy(Position position) { dense.occupy(position); }
+            @Override public boolean allowMove(Position next, Position current) { return false; }
+        };
+        Robot robot = new Robot(new Position(0, 0), Orientation.N, grid);
+
+        ExecutionKernel.run(robot, ProgramCompiler.compile(InstructionSequence.parse("MRML".repeat(250_000))), counting, false);
+
+        assertEquals(new Position(5, 5), robot.position());
+        assertEquals(Orientation.N, robot.orientation());
+        assertTrue(lookups[0] < 1_000, "lookups: " + lookups[0]);
+    }
+
+    @Test
+    void detects_the_period_of_repeated_patterns() {
+        assertEquals(4, ProgramCompiler.compile(InstructionSequence.parse("MRML".repeat(100))).period());
+        assertEquals(2, ProgramCompiler.compile(InstructionSequence.parse("RMMR".repeat(100))).period());
+        assertEquals(0, ProgramCompiler.compile(InstructionSequence.parse("MRMLMMRM")).period());
+    }
+
+    @Test
+    void traces_match_stepwise_navigator_and_replay_to_the_final_pose() {
+        Random rnd = new Random(17);
+        Grid grid = new Grid(8, 6);
+        Navigator stepwise = new Navigator(STEPWISE_IGNORE);
+        Navigator kernel = new Navigator(new IgnorePolicy());
+        Occupancy expectedOcc = new SetOccupancy();
+        Occupancy actualOcc = new SetOccupancy();
+
+        for (int robotIndex = 0; robotIndex < 100; robotIndex++) {
+            Position start = new Position(rnd.nextInt(9), rnd.nextInt(7));
+            Orientation o = Orientation.values()[rnd.nextInt(4)];
+            InstructionSequence program = InstructionSequence.parse(randomProgram(rnd, 1 + rnd.nextInt(60)));
+
+            Robot expected = new Robot(start, o, grid);
+            Trajectory expectedPath = stepwise.trace(expected, program, expectedOcc, true);
+            Robot actual = new Robot(start, o, grid);
+            Trajectory actualPath = kernel.trace(actual, program, actualOcc, true);
+
+            assertArrayEquals(expectedPath.toPackedBytes(), actualPath.toPackedBytes());
+            assertEquals(program.size(), actualPath.size());
+
+            Robot replay = new Robot(start, o, grid);
+            for (int i = 0; i < actualPath.size(); i++) {
+                switch (actualPath.codeAt(i)) {
+                    case Trajectory.TURN_LEFT -> replay.turnLeft();
+                    case Trajectory.TURN_RIGHT -> replay.turnRight();
+                    case Trajectory.MOVED -> replay.moveTo(replay.peekNext());
+                    default -> { }
+                }
+            }
+            assertEquals(actual.position(), replay.position());
+            assertEquals(actual.orientation(), replay.orientation());
+        }
+    }
+
+    @Test
+    void navigator_with_ignore_policy_uses_same_semantics() {
+        Grid grid = new Grid(5, 5);
+        Navigator nav = new Navigator(new IgnorePolicy());
+        Robot r = new Robot(new Position(0, 0), Orientation.S, grid);
+
+        nav.apply(r, InstructionSequence.parse("MMLMMMMMMMLM"));
+
+        assertEquals(new Position(5, 1), r.position());
+        assertEquals(Orientation.N, r.orientation());
+    }
+
+    @Test
+    void occupied_cell_is_entered_when_occupancy_allows_it() {
+        Grid grid = new Grid(5, 5);
+        Occupancy permissive = new Occupancy() {
+            @Override public boolean isFree(Position position) { return false; }
+            @Override public void occupy(Position position) { }
+            @Override public boolean allowMove(Position next, Position current) { return true; }
+        };
+        Robot r = new Robot(new Position(0, 0), Orientation.N, grid);
+
+        ExecutionKernel.run(r, InstructionSequence.parse("MM"), permissive, false);
+
+        assertEquals(new Position(0, 2), r.position());
+    }
+
+    private static String randomProgram(Random rnd, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) sb.append("LRMM".charAt(rnd.nextInt(4)));
+        return sb.toString();
+    }
+}
@@ -23,4 +23,71 @@ public class InstructionSequencyTest {
         InstructionSequence seq = InstructionSequence.of(List.of(Instruction.L, Instruction.M));
         assertEquals(2, seq.asList().size());
     }
+
+    @Test
+    void packed_codes_survive_word_boundaries() {
+        String raw = "LRMMLRMRLMMRLLRMMMRLRLMRMLRMLLMRMMRLRL".repeat(3);
+        InstructionSequence seq = InstructionSequence.parse(raw);
+
+        assertEquals(raw.length(), seq.size());
+        for (int i = 0; i < raw.length(); i++) {
+            assertEquals(Instruction.fromChar(raw.charAt(i)).ordinal(), seq.codeAt(i), "index " + i);
+        }
+    }
+
+    @Test
+    void parse_from_buffer_matches_parse_from_string() {
+        String raw = "lrmMLRmrlM".repeat(7);
+        char[] buffer = ("{\"instructions\":\"" + raw + "\"}").toCharArray();
+
+        InstructionSequence seq = InstructionSequence.parse(buffer, 17, raw.length());
+
+        assertEquals(InstructionSequence.parse(raw).asList(), seq.asList());
+        assertThrows(IllegalArgumentException.class, () -> InstructionSequence.parse(buffer, 0, 3));
+    }
+
+    @Test
+    void cursor_reads_every_code_in_order() {
+        String raw = "MLRM".repeat(40);
+        InstructionCursor cursor = InstructionSequence.parse(raw).cursor();
+
+        StringBuilder read = new StringBuilder();
+        while (cursor.hasNext()) read.append(Instruction.values()[cursor.next()]);
+
+        assertEquals(raw, read.toString());
+        assertEquals(raw.length(), cursor.position());
+    }
+
+    @Test
+    void codeAt_rejects_out_of_range_index() {
+        InstructionSequence seq = InstructionSequence.parse("LM");
+        assertThrows(IndexOutOfBoundsException.class, () -> seq.codeAt(2));
+    }
+
+    @Test
+    void ofPacked_wraps_codes_and_clears_bits_past_size() {
+        // L R M M, then a stray code 3 past the size that must be ignored
+        long[] words = {0b11_10_10_01_00L};
+        InstructionSequence seq = InstructionSequence.ofPacked(words, 4);
+        assertEquals(InstructionSequence.parse("LRMM").asList(), seq.asList());
+    }
+
+    @Test
+    void ofPacked_rejects_code_three() {
+        long[] words = {0, 0b11L << 6};
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> InstructionSequence.ofPacked(words, 40));
+        assertEquals("Invalid instruction code 3 at index 35", e.getMessage());
+    }
+
+    @Test
+    void sequences_with_the_same_instructions_are_equal() {
+        InstructionSequence upper = InstructionSequence.parse("LRM".repeat(20));
+        InstructionSequence lower = InstructionSequence.parse("lrm".repeat(20));
+
+        assertEquals(upper, lower);
+        assertEquals(upper.hashCode(), lower.hashCode());
+        assertNotEquals(upper, InstructionSequence.parse("LRM".repeat(20) + "L"));
+        assertNotEquals(InstructionSequence.parse("L"), InstructionSequence.parse("LL"));
+    }
 }
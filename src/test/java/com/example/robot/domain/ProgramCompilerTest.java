@@ -0,0 +1,96 @@
+package com.example.robot.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for {@link ProgramCompiler} folding and compiled execution. */
+public class ProgramCompilerTest {
+
+    @Test
+    void folds_runs_of_moves_and_net_rotations() {
+        CompiledProgram p = ProgramCompiler.compile(InstructionSequence.parse("MMMMLLLMMRR"));
+
+        assertEquals(4, p.size());
+        assertOp(p, 0, CompiledProgram.ADVANCE, 4);
+        assertOp(p, 1, CompiledProgram.TURN, 1);   // LLL == R
+        assertOp(p, 2, CompiledProgram.ADVANCE, 2);
+        assertOp(p, 3, CompiledProgram.TURN, 2);
+        assertEquals(11, p.instructionCount());
+    }
+
+    @Test
+    void cancelling_rotations_disappear_and_runs_merge() {
+        CompiledProgram p = ProgramCompiler.compile(InstructionSequence.parse("MLRMLLLLM"));
+
+        assertEquals(1, p.size());
+        assertOp(p, 0, CompiledProgram.ADVANCE, 3);
+    }
+
+    @Test
+    void advance_is_clamped_at_the_grid_edge() {
+        Grid grid = new Grid(5, 5);
+        Navigator nav = new Navigator(new IgnorePolicy());
+        Robot r = new Robot(new Position(2, 2), Orientation.E, grid);
+
+        nav.apply(r, ProgramCompiler.compile(InstructionSequence.parse("M".repeat(1000) + "LM")), null, false);
+
+        assertEquals(new Position(5, 3), r.position());
+        assertEquals(Orientation.N, r.orientation());
+    }
+
+    @Test
+    void advance_stops_in_front_of_an_occupied_cell() {
+        Grid grid = new Grid(10, 0);
+        Navigator nav = new Navigator(new IgnorePolicy());
+        Occupancy occ = new SetOccupancy();
+        occ.occupy(new Position(7, 0));
+        Robot r = new Robot(new Position(1, 0), Orientation.E, grid);
+
+        nav.apply(r, ProgramCompiler.compile(InstructionSequence.parse("MMMMMMMMM")), occ, true);
+
+        assertEquals(new Position(6, 0), r.position());
+        assertFalse(occ.isFree(new Position(6, 0)));
+    }
+
+    @Test
+    void compiled_execution_matches_raw_execution() {
+        Random rnd = new Random(11);
+        Grid grid = new Grid(8, 8);
+        Navigator nav = new Navigator(new IgnorePolicy());
+        Navigator stepwise = new Navigator((robot, next) -> {
+            if (robot.grid().inside(next)) robot.moveTo(next);
+        });
+        Occupancy rawOcc = new SetOccupancy();
+        Occupancy compiledOcc = new SetOccupancy();
+        Occupancy stepwiseOcc = new SetOccupancy();
+
+        for (int i = 0; i < 300; i++) {
+            Position start = new Position(rnd.nextInt(9), rnd.nextInt(9));
+            Orientation o = Orientation.values()[rnd.nextInt(4)];
+            StringBuilder sb = new StringBuilder();
+            for (int k = 0, n = rnd.nextInt(60); k < n; k++) sb.append("LRMMMM".charAt(rnd.nextInt(6)));
+            InstructionSequence seq = InstructionSequence.parse(sb.toString());
+            CompiledProgram compiled = ProgramCompiler.compile(seq);
+
+            Robot expected = new Robot(start, o, grid);
+            nav.apply(expected, seq, rawOcc, true);
+            Robot actual = new Robot(start, o, grid);
+            nav.apply(actual, compiled, compiledOcc, true);
+            Robot replayed = new Robot(start, o, grid);
+            stepwise.apply(replayed, compiled, stepwiseOcc, true);
+
+            assertEquals(expected.position(), actual.position());
+            assertEquals(expected.orientation(), actual.orientation());
+            assertEquals(expected.position(), replayed.position());
+            assertEquals(expected.orientation(), replayed.orientation());
+        }
+    }
+
+    private static void assertOp(CompiledProgram p, int index, int kind, int count) {
+        assertEquals(kind, p.kindAt(index), "kind at " + index);
+        assertEquals(count, p.countAt(index), "count at " + index);
+    }
+}
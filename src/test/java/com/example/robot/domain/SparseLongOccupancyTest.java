@@ -0,0 +1,77 @@
+package com.example.robot.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for {@link SparseLongOccupancy}. */
+public class SparseLongOccupancyTest {
+
+    @Test
+    void behaves_like_a_set_across_resizes() {
+        Random rnd = new Random(5);
+        SparseLongOccupancy occ = new SparseLongOccupancy();
+        Set<Position> expected = new HashSet<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            Position p = new Position(rnd.nextInt(Integer.MAX_VALUE), rnd.nextInt(500));
+            assertEquals(expected.add(p), occ.add(p.x(), p.y()));
+        }
+
+        assertEquals(expected.size(), occ.size());
+        for (Position p : expected) assertFalse(occ.isFree(p));
+        for (int i = 0; i < 1_000; i++) {
+            Position p = new Position(rnd.nextInt(Integer.MAX_VALUE), rnd.nextInt(500));
+            assertEquals(!expected.contains(p), occ.isFree(p.x(), p.y()));
+        }
+    }
+
+    @Test
+    void cells_at_coordinate_extremes_are_tracked() {
+        SparseLongOccupancy occ = new SparseLongOccupancy();
+
+        occ.occupy(new Position(0, 0));
+        occ.occupy(new Position(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        occ.occupy(new Position(Integer.MIN_VALUE, 0)); // packs to the empty-slot marker
+
+        assertFalse(occ.isFree(0, 0));
+        assertFalse(occ.isFree(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertFalse(occ.isFree(Integer.MIN_VALUE, 0));
+        assertTrue(occ.isFree(0, 1));
+        assertEquals(3, occ.size());
+    }
+
+    @Test
+    void small_area_check_ends_at_the_integer_edge() {
+        SparseLongOccupancy sparse = new SparseLongOccupancy();
+        SetOccupancy set = new SetOccupancy();
+        for (Position p : List.of(new Position(6, 6), new Position(5, 5), new Position(Integer.MAX_VALUE, 1))) {
+            sparse.occupy(p);
+            set.occupy(p);
+        }
+
+        // Two cells against three occupied ones: both scan the rectangle cell by cell
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertTrue(sparse.isFreeArea(Integer.MAX_VALUE - 1, 0, Integer.MAX_VALUE, 0));
+            assertFalse(sparse.isFreeArea(Integer.MAX_VALUE, 0, Integer.MAX_VALUE, 1));
+            assertTrue(set.isFreeArea(Integer.MAX_VALUE - 1, 0, Integer.MAX_VALUE, 0));
+            assertFalse(set.isFreeArea(Integer.MAX_VALUE, 0, Integer.MAX_VALUE, 1));
+        });
+    }
+
+    @Test
+    void area_check_scans_table_for_large_rectangles() {
+        SparseLongOccupancy occ = new SparseLongOccupancy();
+        occ.occupy(new Position(1_000_000, 7));
+
+        assertFalse(occ.isFreeArea(0, 0, Integer.MAX_VALUE - 1, 10));
+        assertTrue(occ.isFreeArea(0, 8, Integer.MAX_VALUE - 1, 100));
+        assertTrue(occ.isFreeArea(1_000_001, 0, 2_000_000, 10));
+    }
+}